@@ -0,0 +1,89 @@
+package org.example.benchmark;
+
+import org.example.clock.RealTimeClock;
+import org.example.clock.SimulationClock;
+import org.example.controller.ElevatorController;
+import org.example.controller.ElevatorDispatcher;
+import org.example.enums.Direction;
+import org.example.enums.RequestType;
+import org.example.models.Elevator;
+import org.example.models.Request;
+import org.example.strategy.NearestElevatorStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * select: cost of one dispatch decision, i.e. snapshot the fleet, run the strategy
+ * and resolve the chosen car's controller through the registry; with -prof gc
+ * it allocates nothing per call.
+ * submitAndDispatch: the whole path of a hall call, from the ring buffer through the
+ * priority heap and the decision to the chosen car queueing the stop. Per call it
+ * allocates the Request the car keeps and the car's new snapshot, nothing else.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+    private static final int FLOORS = 50;
+    private static final int REQUESTS = 1024; // Power of two
+
+    @Param({"8", "64", "512"})
+    public int cars;
+
+    private ElevatorDispatcher dispatcher;
+    private Request[] requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        SimulationClock clock = new RealTimeClock();
+        List<ElevatorController> controllers = new ArrayList<>();
+        for (Elevator elevator : Fleets.build(cars, FLOORS, 50, 42, clock)) {
+            controllers.add(new ElevatorController(elevator, clock));
+        }
+        dispatcher = new ElevatorDispatcher(controllers, new NearestElevatorStrategy(), clock);
+
+        requests = new Request[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            requests[i] = new Request.Builder()
+                    .sourceFloor(random.nextInt(FLOORS))
+                    .direction(random.nextBoolean() ? Direction.UP : Direction.DOWN)
+                    .requestType(RequestType.HALL_REQUEST)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public ElevatorController select() {
+        Request request = requests[next++ & (REQUESTS - 1)];
+        return dispatcher.selectController(request);
+    }
+
+    // The dispatcher thread is not started: this thread submits and dispatches in turn
+    @Benchmark
+    public boolean submitAndDispatch() {
+        Request request = requests[next++ & (REQUESTS - 1)];
+        boolean accepted = dispatcher.submitHallCall(request.getSourceFloor(), request.getDirection());
+        dispatcher.dispatchPending();
+        return accepted;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.benchmark;
+
+import org.example.clock.SimulationClock;
+import org.example.models.Door;
+import org.example.models.Elevator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds reproducible fleets for benchmarks by stepping real cars with Elevator.tick()
+ */
+final class Fleets {
+    private static final long DOOR_CYCLE_MS = 2 * Door.TRANSITION_TIME_MS + Elevator.DWELL_TIME_MS;
+
+    private Fleets() {
+    }
+
+    /**
+     * @param movingPercent Share of cars left in travel; the rest stand idle on random floors
+     * @param floors At least 3, so a moving car has a stop above its first one
+     */
+    static List<Elevator> build(int cars, int floors, int movingPercent, long seed, SimulationClock clock) {
+        Random random = new Random(seed);
+        List<Elevator> fleet = new ArrayList<>(cars);
+        for (int i = 0; i < cars; i++) {
+            Elevator elevator = new Elevator(i + 1, 10, floors, clock);
+            if (random.nextInt(100) < movingPercent) {
+                // Halfway between two floors short of the first stop, with one more stop queued above it
+                int floor = 1 + random.nextInt(floors - 2);
+                elevator.addDestination(floor);
+                elevator.addDestination(floor + 1 + random.nextInt(floors - 1 - floor));
+                elevator.tick(random.nextInt(floor) * Elevator.FLOOR_TRAVEL_TIME_MS
+                        + Elevator.FLOOR_TRAVEL_TIME_MS / 2);
+            } else {
+                // Arrive, cycle the doors and settle into IDLE
+                int floor = 1 + random.nextInt(floors - 1);
+                elevator.addDestination(floor);
+                elevator.tick(floor * Elevator.FLOOR_TRAVEL_TIME_MS + DOOR_CYCLE_MS);
+                elevator.tick(0);
+            }
+            fleet.add(elevator);
+        }
+        return fleet;
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.benchmark;
+
+import org.example.controller.PendingRequestQueue;
+import org.example.enums.Direction;
+import org.example.enums.RequestPriority;
+import org.example.enums.RequestType;
+import org.example.models.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of taking the next call from a backlog and queueing a new one, with the
+ * dispatcher's priority heap holding a steady number of pending calls.
+ * Should grow with log(pending), not with pending.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PendingRequestQueueBenchmark {
+    private static final int FLOORS = 50;
+    private static final int REQUESTS = 1 << 16; // Power of two
+
+    @Param({"1000", "10000", "100000"})
+    public int pending;
+
+    private PendingRequestQueue queue;
+    private Request[] requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        RequestPriority[] priorities = RequestPriority.values();
+        requests = new Request[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            // Mostly normal calls, a few of every other class, arriving over ten minutes
+            RequestPriority priority = random.nextInt(20) == 0
+                    ? priorities[1 + random.nextInt(priorities.length - 1)] : RequestPriority.NORMAL;
+            requests[i] = new Request.Builder()
+                    .sourceFloor(random.nextInt(FLOORS))
+                    .direction(random.nextBoolean() ? Direction.UP : Direction.DOWN)
+                    .requestType(RequestType.HALL_REQUEST)
+                    .priority(priority)
+                    .timestampNanos(random.nextInt(600_000) * 1_000_000L)
+                    .build();
+        }
+
+        queue = new PendingRequestQueue();
+        for (int i = 0; i < pending; i++) {
+            queue.add(requests[next++ & (REQUESTS - 1)]);
+        }
+    }
+
+    @Benchmark
+    public Request pollAndAdd() {
+        Request first = queue.poll();
+        queue.add(requests[next++ & (REQUESTS - 1)]);
+        return first;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.benchmark;
+
+import org.example.clock.RealTimeClock;
+import org.example.enums.Direction;
+import org.example.enums.RequestType;
+import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.Request;
+import org.example.strategy.ElevatorSelectionStrategy;
+import org.example.strategy.SelectionStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of ElevatorSelectionStrategy.selectElevator across fleet shapes.
+ * Run with -prof gc for the allocation rate (gc.alloc.rate.norm is bytes per call).
+ * A new strategy is added to the strategy parameter and SelectionStrategies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionStrategyBenchmark {
+    private static final int REQUESTS = 1024; // Power of two
+
+    @Param({"nearest", "leastLoaded", "eta", "hungarian"})
+    public String strategy;
+
+    @Param({"8", "64", "512"})
+    public int elevators;
+
+    @Param({"20", "200"})
+    public int floors;
+
+    @Param({"0", "50", "100"})
+    public int movingPercent;
+
+    private ElevatorSelectionStrategy selectionStrategy;
+    private List<ElevatorSnapshot> snapshots;
+    private Request[] requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        selectionStrategy = SelectionStrategies.create(strategy);
+
+        snapshots = new ArrayList<>(elevators);
+        for (Elevator elevator : Fleets.build(elevators, floors, movingPercent, 7, new RealTimeClock())) {
+            snapshots.add(elevator.getSnapshot());
+        }
+
+        Random random = new Random(11);
+        requests = new Request[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            requests[i] = new Request.Builder()
+                    .sourceFloor(random.nextInt(floors))
+                    .direction(random.nextBoolean() ? Direction.UP : Direction.DOWN)
+                    .requestType(RequestType.HALL_REQUEST)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public ElevatorSnapshot selectElevator() {
+        return selectionStrategy.selectElevator(snapshots, requests[next++ & (REQUESTS - 1)]);
+    }
+}
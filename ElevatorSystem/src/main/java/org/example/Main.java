@@ -1,6 +1,7 @@
 package org.example;
 
 import org.example.models.Building;
+import org.example.observer.ElevatorDisplay;
 import org.example.strategy.NearestElevatorStrategy;
 
 /**
@@ -32,6 +33,7 @@ public class Main {
                 .floors(10)
                 .elevators(3, 10) // 3 elevators with capacity of 10 people each
                 .selectionStrategy(new NearestElevatorStrategy())
+                .eventListener(new ElevatorDisplay("Lobby Display"))
                 .build();
 
         // Start the elevator system
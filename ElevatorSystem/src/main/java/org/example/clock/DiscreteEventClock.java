@@ -0,0 +1,322 @@
+package org.example.clock;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Discrete-event, time-compressed clock
+ *
+ * Participating threads take turns: exactly one of them runs at any moment.
+ * When the running thread sleeps or waits on a signal it hands the turn to the
+ * next runnable participant, or jumps virtual time forward to the earliest
+ * pending wakeup. Runs are therefore deterministic and only limited by CPU.
+ *
+ * Threads join either through {@link #bind(Runnable)} (controllers, dispatcher)
+ * or by calling {@link #attach()} (the thread driving a simulation).
+ */
+public class DiscreteEventClock implements SimulationClock {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Participant> ready = new ArrayDeque<>();
+    private final PriorityQueue<Participant> sleeping = new PriorityQueue<>(
+            Comparator.comparingLong((Participant p) -> p.wakeAt).thenComparingLong(p -> p.sequence));
+    private final ThreadLocal<Participant> self = new ThreadLocal<>();
+
+    private volatile long now;
+    private long sequence;
+    private Participant current;
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        Participant participant = requireTurn();
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        lock.lock();
+        try {
+            participant.wakeAt = now + Math.max(0, millis) * 1_000_000L;
+            participant.sequence = sequence++;
+            sleeping.add(participant);
+            yieldTurn(participant);
+        } finally {
+            lock.unlock();
+        }
+
+        if (awaitTurn(participant)) {
+            throw new InterruptedException();
+        }
+    }
+
+    // Only a participant holding the turn may sleep
+    @Override
+    public boolean canSleep() {
+        Participant participant = self.get();
+        return participant != null && participant.hasTurn;
+    }
+
+    @Override
+    public Signal newSignal() {
+        return new DiscreteSignal();
+    }
+
+    @Override
+    public Runnable bind(Runnable task) {
+        Participant participant = new Participant();
+        lock.lock();
+        try {
+            makeReady(participant);
+        } finally {
+            lock.unlock();
+        }
+
+        return () -> {
+            participant.thread = Thread.currentThread();
+            self.set(participant);
+            if (awaitTurn(participant)) {
+                Thread.currentThread().interrupt();
+            }
+            try {
+                task.run();
+            } finally {
+                detach();
+            }
+        };
+    }
+
+    /**
+     * Makes the calling thread a participant and blocks until it gets its turn
+     */
+    public void attach() {
+        if (self.get() != null) {
+            throw new IllegalStateException("Thread is already attached to this clock");
+        }
+
+        Participant participant = new Participant();
+        participant.thread = Thread.currentThread();
+        self.set(participant);
+        lock.lock();
+        try {
+            makeReady(participant);
+        } finally {
+            lock.unlock();
+        }
+
+        if (awaitTurn(participant)) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Removes the calling thread from the clock and hands its turn on
+     */
+    public void detach() {
+        Participant participant = requireTurn();
+        self.remove();
+        lock.lock();
+        try {
+            yieldTurn(participant);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Participant requireTurn() {
+        Participant participant = self.get();
+        if (participant == null || !participant.hasTurn) {
+            throw new IllegalStateException("Thread " + Thread.currentThread().getName()
+                    + " is not attached to this clock");
+        }
+        return participant;
+    }
+
+    // Callers hold the lock
+    private void makeReady(Participant participant) {
+        ready.add(participant);
+        if (current == null) {
+            dispatchNext();
+        }
+    }
+
+    // Callers hold the lock
+    private void yieldTurn(Participant participant) {
+        participant.hasTurn = false;
+        current = null;
+        dispatchNext();
+    }
+
+    // Callers hold the lock; ready threads run before time moves forward
+    private void dispatchNext() {
+        Participant next = ready.poll();
+        if (next == null) {
+            next = sleeping.poll();
+            if (next == null) {
+                return;
+            }
+            now = Math.max(now, next.wakeAt);
+            if (next.signal != null) {
+                // A timed signal wait ran out
+                next.signal.waiter = null;
+                next.signal = null;
+                next.timedWait = false;
+                next.timedOut = true;
+            }
+        }
+
+        current = next;
+        next.hasTurn = true;
+        Thread thread = next.thread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Parks until the participant gets its turn.
+     * An interrupt cuts a sleep or signal wait short, but the thread still
+     * waits for its turn so that only one participant ever runs.
+     *
+     * @return true if the thread was interrupted while waiting
+     */
+    private boolean awaitTurn(Participant participant) {
+        boolean interrupted = false;
+        while (!participant.hasTurn) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                interrupted = true;
+                lock.lock();
+                try {
+                    wakeEarly(participant);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+        return interrupted;
+    }
+
+    // Callers hold the lock
+    private void wakeEarly(Participant participant) {
+        if (participant.hasTurn) {
+            return;
+        }
+        if (participant.signal != null) {
+            participant.signal.waiter = null;
+            participant.signal = null;
+            if (participant.timedWait) {
+                participant.timedWait = false;
+                sleeping.remove(participant);
+            }
+            makeReady(participant);
+        } else if (sleeping.remove(participant)) {
+            makeReady(participant);
+        }
+    }
+
+    private static class Participant {
+        private volatile Thread thread;
+        private volatile boolean hasTurn;
+        private long wakeAt;
+        private long sequence;
+        private DiscreteSignal signal;
+        private boolean timedWait; // Waiting on signal and in the sleeping queue
+        private boolean timedOut;
+    }
+
+    private class DiscreteSignal implements Signal {
+        private boolean permit;
+        private Participant waiter;
+
+        @Override
+        public void await() throws InterruptedException {
+            Participant participant = requireTurn();
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            lock.lock();
+            try {
+                if (permit) {
+                    permit = false;
+                    return;
+                }
+                waiter = participant;
+                participant.signal = this;
+                yieldTurn(participant);
+            } finally {
+                lock.unlock();
+            }
+
+            if (awaitTurn(participant)) {
+                throw new InterruptedException();
+            }
+        }
+
+        /**
+         * Waits in the sleeping queue as well, so time can run out like a sleep
+         */
+        @Override
+        public boolean await(long timeoutMillis) throws InterruptedException {
+            Participant participant = requireTurn();
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            lock.lock();
+            try {
+                if (permit) {
+                    permit = false;
+                    return true;
+                }
+                waiter = participant;
+                participant.signal = this;
+                participant.timedWait = true;
+                participant.timedOut = false;
+                participant.wakeAt = now + Math.max(0, timeoutMillis) * 1_000_000L;
+                participant.sequence = sequence++;
+                sleeping.add(participant);
+                yieldTurn(participant);
+            } finally {
+                lock.unlock();
+            }
+
+            if (awaitTurn(participant)) {
+                throw new InterruptedException();
+            }
+            lock.lock();
+            try {
+                return !participant.timedOut;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void signal() {
+            lock.lock();
+            try {
+                if (waiter == null) {
+                    permit = true;
+                    return;
+                }
+                Participant participant = waiter;
+                waiter = null;
+                participant.signal = null;
+                if (participant.timedWait) {
+                    participant.timedWait = false;
+                    sleeping.remove(participant);
+                }
+                makeReady(participant);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
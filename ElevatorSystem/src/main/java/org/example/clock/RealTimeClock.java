@@ -0,0 +1,90 @@
+package org.example.clock;
+
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wall-clock implementation: sleeps really take the requested time
+ */
+public class RealTimeClock implements SimulationClock {
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    // nanoTime has an arbitrary origin, so the time of day comes from the system clock and zone
+    @Override
+    public long timeOfDayMillis() {
+        return LocalTime.now().toNanoOfDay() / 1_000_000L;
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    @Override
+    public Signal newSignal() {
+        return new ParkingSignal();
+    }
+
+    @Override
+    public Runnable bind(Runnable task) {
+        return task;
+    }
+
+    /**
+     * Park/unpark based signal: no locks, so it is cheap to raise on every request
+     */
+    private static class ParkingSignal implements Signal {
+        private final AtomicBoolean permit = new AtomicBoolean(false);
+        private volatile Thread waiter;
+
+        @Override
+        public void await() throws InterruptedException {
+            waiter = Thread.currentThread();
+            try {
+                while (!permit.getAndSet(false)) {
+                    LockSupport.park(this);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+            } finally {
+                waiter = null;
+            }
+        }
+
+        @Override
+        public boolean await(long timeoutMillis) throws InterruptedException {
+            long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+            waiter = Thread.currentThread();
+            try {
+                while (!permit.getAndSet(false)) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+                return true;
+            } finally {
+                waiter = null;
+            }
+        }
+
+        @Override
+        public void signal() {
+            permit.set(true);
+            Thread thread = waiter;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.clock;
+
+/**
+ * Source of time for the elevator system
+ * Strategy Pattern: real-time and discrete-event clocks are interchangeable
+ * Every timed wait in the models and controllers goes through the clock,
+ * so a simulated clock can fast-forward door, travel and dwell times
+ */
+public interface SimulationClock {
+    long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    /**
+     * @return Monotonic time in nanoseconds (virtual time for simulated clocks)
+     */
+    long nanoTime();
+
+    default long currentTimeMillis() {
+        return nanoTime() / 1_000_000L;
+    }
+
+    /**
+     * @return Milliseconds since midnight; simulated clocks start their first day at time 0
+     */
+    default long timeOfDayMillis() {
+        return Math.floorMod(currentTimeMillis(), DAY_MILLIS);
+    }
+
+    /**
+     * Blocks the calling thread for the given amount of clock time
+     */
+    void sleep(long millis) throws InterruptedException;
+
+    /**
+     * @return true if the calling thread may sleep on this clock; a simulated clock
+     *         only times the threads that take part in it
+     */
+    default boolean canSleep() {
+        return true;
+    }
+
+    /**
+     * Creates a wakeup signal whose waits are accounted for by this clock
+     */
+    Signal newSignal();
+
+    /**
+     * Wraps a task so that the thread running it takes part in this clock.
+     * The task is registered immediately, so call this on the thread that starts it.
+     */
+    Runnable bind(Runnable task);
+
+    /**
+     * Single-consumer wakeup signal with permit semantics:
+     * a signal raised while nobody waits is remembered until the next await
+     */
+    interface Signal {
+        void await() throws InterruptedException;
+
+        /**
+         * Waits at most the given amount of clock time
+         * @return true if signalled, false if the time ran out first
+         */
+        boolean await(long timeoutMillis) throws InterruptedException;
+
+        void signal();
+    }
+}
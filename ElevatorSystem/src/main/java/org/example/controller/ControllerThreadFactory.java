@@ -0,0 +1,68 @@
+package org.example.controller;
+
+import org.example.enums.ThreadMode;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Creates controller and dispatcher threads for the configured ThreadMode
+ * Virtual threads are looked up reflectively so the project still builds on Java 11+
+ * and uses them whenever the runtime is Java 21 or later
+ */
+public class ControllerThreadFactory {
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_UNSTARTED;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method unstarted = null;
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builderType.getMethod("name", String.class);
+            unstarted = builderType.getMethod("unstarted", Runnable.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            // Runtime predates virtual threads
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = name;
+        BUILDER_UNSTARTED = unstarted;
+    }
+
+    private final ThreadMode mode;
+
+    public ControllerThreadFactory(ThreadMode mode) {
+        if (mode == ThreadMode.VIRTUAL && !isVirtualThreadSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        this.mode = mode;
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * @return An unstarted thread of the configured kind
+     */
+    public Thread newThread(Runnable task, String name) {
+        if (mode == ThreadMode.PLATFORM) {
+            return new Thread(task, name);
+        }
+
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, name);
+            return (Thread) BUILDER_UNSTARTED.invoke(builder, task);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create virtual thread " + name, e);
+        }
+    }
+
+    public ThreadMode getMode() {
+        return mode;
+    }
+}
@@ -0,0 +1,208 @@
+package org.example.controller;
+
+import org.example.clock.SimulationClock;
+import org.example.enums.Direction;
+import org.example.enums.ElevatorState;
+import org.example.enums.LogLevel;
+import org.example.enums.RequestType;
+import org.example.jfr.DispatchDecisionEvent;
+import org.example.logging.EventLog;
+import org.example.metrics.ElevatorMetrics;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.FloorSet;
+import org.example.models.Request;
+import org.example.strategy.ElevatorSelectionStrategy;
+import org.example.strategy.RouteReplay;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Destination dispatch: assigns a trip to a car as soon as the passenger enters both
+ * floors, so the hall terminal can tell them which car to take
+ *
+ * Every car is scored by replaying its committed stops, in the order its own
+ * StopSchedulingPolicy serves them, together with the trips it was given but has not
+ * picked up yet; a trip's destination only joins the route once the car serves its
+ * pickup floor. The cost of a trip is how much it raises the summed
+ * arrival times of those stops plus how much later the car finishes its route and is
+ * free for the next group. A car already stopping at the destination takes the trip
+ * for little more than the pickup, so passengers bound for the same or nearby floors
+ * share a car and each round trip makes fewer stops. Assignments are final: pickups are
+ * queued as trip pickups, which a full car does not bypass and reallocation does not
+ * withdraw. A car counts as full once its load plus the trips waiting for it reaches
+ * its bypass load.
+ * Thread-safe: callers on any thread are assigned one at a time.
+ */
+public class DestinationDispatcher {
+    public static final int NO_ELEVATOR = -1;
+
+    private final ElevatorRegistry registry;
+    private final SimulationClock clock;
+    private final ElevatorMetrics metrics; // Optional
+    private final ElevatorSnapshot[] snapshots; // Guarded by this, refilled per assignment
+    private final List<List<Trip>> waitingTrips; // Per car in registry order: assigned, not yet boarded
+    private final RouteReplay routeReplay = new RouteReplay(); // Guarded by this
+
+    public DestinationDispatcher(ElevatorRegistry registry, SimulationClock clock, ElevatorMetrics metrics) {
+        this.registry = registry;
+        this.clock = clock;
+        this.metrics = metrics;
+        this.snapshots = new ElevatorSnapshot[registry.size()];
+        this.waitingTrips = new ArrayList<>(registry.size());
+        for (int i = 0; i < registry.size(); i++) {
+            waitingTrips.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Picks the car for a trip and sends it to the pickup floor
+     * @return Id of the car the passenger should board, or NO_ELEVATOR if none is in service
+     */
+    public synchronized int assignTrip(int sourceFloor, int destinationFloor) {
+        Direction direction = destinationFloor > sourceFloor ? Direction.UP : Direction.DOWN;
+        long timestampNanos = clock.nanoTime();
+        if (metrics != null) {
+            metrics.recordHallCall(sourceFloor, direction, timestampNanos);
+        }
+
+        DispatchDecisionEvent decision = new DispatchDecisionEvent();
+        decision.begin();
+        long decisionStart = System.nanoTime();
+        int best = -1;
+        long bestCost = Long.MAX_VALUE;
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = registry.getControllerAt(i).getElevator().getSnapshot();
+            forgetPassedTrips(snapshots[i], waitingTrips.get(i));
+            if (!snapshots[i].isAvailable()) {
+                continue;
+            }
+            long cost = cost(snapshots[i], waitingTrips.get(i), sourceFloor, destinationFloor);
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = i;
+            }
+        }
+        decision.end();
+        if (metrics != null) {
+            metrics.recordDispatchLatency(System.nanoTime() - decisionStart);
+        }
+        if (decision.shouldCommit()) {
+            commitDecision(decision, sourceFloor, direction, destinationFloor, best);
+        }
+
+        if (best < 0) {
+            EventLog.log(LogLevel.WARN, "No available elevator for trip from floor {} to {}",
+                    sourceFloor, destinationFloor);
+            return NO_ELEVATOR;
+        }
+        ElevatorController controller = registry.getControllerAt(best);
+        waitingTrips.get(best).add(new Trip(sourceFloor, destinationFloor));
+        controller.handleRequest(new Request.Builder()
+                .sourceFloor(sourceFloor)
+                .destinationFloor(destinationFloor)
+                .direction(direction)
+                .requestType(RequestType.TRIP_REQUEST)
+                .timestampNanos(timestampNanos)
+                .build());
+        int elevatorId = controller.getElevator().getId();
+        EventLog.log(LogLevel.INFO, "Trip from floor {} to {} assigned to Elevator {}",
+                sourceFloor, destinationFloor, elevatorId);
+        return elevatorId;
+    }
+
+    /**
+     * A passenger boarded the car at the floor; their trip no longer waits for a pickup
+     */
+    public synchronized void tripBoarded(int elevatorId, int floor, int destinationFloor) {
+        for (int i = 0; i < snapshots.length; i++) {
+            if (registry.getControllerAt(i).getElevator().getId() != elevatorId) {
+                continue;
+            }
+            List<Trip> trips = waitingTrips.get(i);
+            for (int t = 0; t < trips.size(); t++) {
+                if (trips.get(t).sourceFloor == floor && trips.get(t).destinationFloor == destinationFloor) {
+                    trips.remove(t);
+                    return;
+                }
+            }
+            return;
+        }
+    }
+
+    // A car that neither stops at a pickup floor nor stands open there has left without the passenger
+    private static void forgetPassedTrips(ElevatorSnapshot car, List<Trip> trips) {
+        for (int t = trips.size() - 1; t >= 0; t--) {
+            int floor = trips.get(t).sourceFloor;
+            boolean openHere = car.getCurrentFloor() == floor && car.getState() == ElevatorState.DOOR_OPEN;
+            if (!openHere && !car.hasStopAt(floor)) {
+                trips.remove(t);
+            }
+        }
+    }
+
+    private long cost(ElevatorSnapshot car, List<Trip> trips, int sourceFloor, int destinationFloor) {
+        long cost = routeCost(car, trips, sourceFloor, destinationFloor)
+                - routeCost(car, trips, FloorSet.NONE, FloorSet.NONE);
+        if (car.getCurrentLoad() + trips.size() >= car.getBypassLoad()) {
+            cost += ElevatorSelectionStrategy.FULL_CAR_PENALTY; // Room only by passing hall calls
+        }
+        return cost;
+    }
+
+    /**
+     * Replays the car's route with its waiting trips (and the extra trip, if any) the way the car drives it
+     * @return Summed arrival times at every stop plus the time the last stop is done
+     */
+    private long routeCost(ElevatorSnapshot car, List<Trip> trips, int extraSource, int extraDestination) {
+        int count = trips.size() + (extraSource != FloorSet.NONE ? 1 : 0);
+        int[] sources = new int[count];
+        int[] destinations = new int[count];
+        for (int t = 0; t < trips.size(); t++) {
+            sources[t] = trips.get(t).sourceFloor;
+            destinations[t] = trips.get(t).destinationFloor;
+        }
+        if (extraSource != FloorSet.NONE) {
+            sources[count - 1] = extraSource;
+            destinations[count - 1] = extraDestination;
+        }
+        long total = routeReplay.replay(car, FloorSet.NONE, sources, destinations, count);
+        return total + routeReplay.getFinishMillis();
+    }
+
+    // Only while a recording enables the event; snapshots still holds the fleet that was scored
+    private void commitDecision(DispatchDecisionEvent decision, int sourceFloor, Direction direction,
+                                int destinationFloor, int chosen) {
+        StringBuilder scores = new StringBuilder();
+        int candidates = 0;
+        for (int i = 0; i < snapshots.length; i++) {
+            if (!snapshots[i].isAvailable()) {
+                continue;
+            }
+            if (candidates++ > 0) {
+                scores.append(' ');
+            }
+            scores.append(snapshots[i].getElevatorId()).append('=')
+                    .append(cost(snapshots[i], waitingTrips.get(i), sourceFloor, destinationFloor));
+        }
+
+        decision.strategy = getClass().getSimpleName();
+        decision.requests = 1;
+        decision.sourceFloor = sourceFloor;
+        decision.direction = direction + " to " + destinationFloor;
+        decision.chosenElevator = chosen >= 0 ? snapshots[chosen].getElevatorId() : -1;
+        decision.candidates = candidates;
+        decision.candidateScores = scores.toString();
+        decision.commit();
+    }
+
+    private static final class Trip {
+        private final int sourceFloor;
+        private final int destinationFloor;
+
+        private Trip(int sourceFloor, int destinationFloor) {
+            this.sourceFloor = sourceFloor;
+            this.destinationFloor = destinationFloor;
+        }
+    }
+}
@@ -1,30 +1,74 @@
 package org.example.controller;
 
+import org.example.clock.SimulationClock;
+import org.example.metrics.ElevatorMetrics;
 import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.FloorSet;
 import org.example.models.Request;
+import org.example.enums.Direction;
 import org.example.enums.RequestType;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.strategy.ParkingPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * Controller for individual elevator operations
  * Single Responsibility: Controls one elevator's behavior
+ * Event-driven: the controller parks while idle and is woken by handleRequest
+ * Instrumented: with ElevatorMetrics, times hall calls it serves and rides to its car calls
+ * Parking: with a ParkingPolicy, asks once per idle spell where the car should wait
  */
 public class ElevatorController implements Runnable {
+    private static final long NO_CALL = Long.MIN_VALUE;
+
     private final Elevator elevator;
+    private final SimulationClock clock;
+    private final SimulationClock.Signal wakeup;
+    private final ElevatorMetrics metrics; // Optional
+    private final AtomicLongArray carCallNanos; // Per floor: earliest unserved car call, when instrumented
+    private volatile long doorsOpenedNanos; // Car thread: when the doors last opened
     private volatile boolean running;
+    private TickEngine engine; // Set when a tick engine drives this car instead of run()
+    private ParkingPolicy parkingPolicy; // Optional, set before start
+    private ElevatorRegistry fleet;
+    private volatile boolean parkingConsidered; // Cleared by every new request
+
+    public ElevatorController(Elevator elevator, SimulationClock clock) {
+        this(elevator, clock, null);
+    }
 
-    public ElevatorController(Elevator elevator) {
+    public ElevatorController(Elevator elevator, SimulationClock clock, ElevatorMetrics metrics) {
         this.elevator = elevator;
+        this.clock = clock;
+        this.wakeup = clock.newSignal();
+        this.metrics = metrics;
         this.running = true;
+        if (metrics != null) {
+            this.carCallNanos = new AtomicLongArray(elevator.getNumberOfFloors());
+            for (int i = 0; i < carCallNanos.length(); i++) {
+                carCallNanos.set(i, NO_CALL);
+            }
+            elevator.setArrivalListener((car, floor) -> recordArrival(floor));
+            elevator.setStopListener((car, floor, served) -> onStopServed(floor, served));
+        } else {
+            this.carCallNanos = null;
+        }
     }
 
     @Override
     public void run() {
-        System.out.println("Elevator Controller " + elevator.getId() + " started");
+        EventLog.log(LogLevel.INFO, "Elevator Controller {} started", elevator.getId());
         
         while (running) {
             try {
-                processNextDestination();
-                Thread.sleep(500); // Small delay between checks
+                if (!processNextDestination() && !parkIfIdle()) {
+                    wakeup.await(); // Park until a new request or stop()
+                }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
@@ -32,31 +76,114 @@ public class ElevatorController implements Runnable {
         }
     }
 
-    private void processNextDestination() {
-        Integer nextFloor = elevator.getNextDestination();
+    private boolean processNextDestination() {
+        int nextFloor = elevator.getNextDestination();
         
-        if (nextFloor != null) {
-            elevator.moveToFloor(nextFloor);
+        if (nextFloor == FloorSet.NONE) {
+            return false;
         }
+        elevator.moveToFloor(nextFloor);
+        return true;
     }
 
     public void handleRequest(Request request) {
+        if (engine != null) {
+            engine.submit(this, request);
+            return;
+        }
+        applyRequest(request);
+        wakeup.signal();
+    }
+
+    void applyRequest(Request request) {
+        parkingConsidered = false;
         if (request.getRequestType() == RequestType.HALL_REQUEST) {
             // For hall requests, first go to the source floor
-            elevator.addDestination(request.getSourceFloor());
+            // Doors already open there: the wait is timed when the car leaves
+            elevator.addHallStop(request.getSourceFloor());
+        } else if (request.getRequestType() == RequestType.TRIP_REQUEST) {
+            elevator.addTripPickup(request.getSourceFloor());
         } else if (request.getRequestType() == RequestType.ELEVATOR_REQUEST) {
             // For elevator requests, go directly to destination
-            if (request.getDestinationFloor() != null) {
-                elevator.addDestination(request.getDestinationFloor());
+            Integer destination = request.getDestinationFloor();
+            if (destination != null && elevator.addDestination(destination) && carCallNanos != null
+                    && destination >= 0 && destination < carCallNanos.length()) {
+                carCallNanos.compareAndSet(destination, NO_CALL, request.getTimestampNanos());
+            }
+        }
+    }
+
+    /**
+     * Takes back a hall call the dispatcher is moving to another car
+     * @return false if this car has to stop there anyway or is already serving the floor
+     */
+    public boolean withdrawHallCall(int floor) {
+        return elevator.withdrawHallStop(floor);
+    }
+
+    /**
+     * Car thread: the car is leaving floor having served the hall call for direction served
+     * there (IDLE: both, see StopListener). Building's own stop listener replaces the one
+     * set here and forwards to this method.
+     */
+    public void onStopServed(int floor, Direction served) {
+        if (metrics != null) {
+            metrics.recordStopServed(floor, served, doorsOpenedNanos);
+        }
+    }
+
+    // Car thread: the doors just opened here
+    private void recordArrival(int floor) {
+        long now = clock.nanoTime();
+        doorsOpenedNanos = now;
+        if (floor >= 0 && floor < carCallNanos.length()) {
+            long calledAt = carCallNanos.getAndSet(floor, NO_CALL);
+            if (calledAt != NO_CALL) {
+                metrics.recordRide(now - calledAt);
             }
         }
     }
 
+    /**
+     * Lets the policy move this car while it is idle; fleet gives it the rest of the bank
+     */
+    public void setParkingPolicy(ParkingPolicy parkingPolicy, ElevatorRegistry fleet) {
+        this.parkingPolicy = parkingPolicy;
+        this.fleet = fleet;
+    }
+
+    /**
+     * Car thread: asks the parking policy once each time the car runs out of work
+     * @return true if the car was sent to a parking floor
+     */
+    boolean parkIfIdle() {
+        if (parkingPolicy == null || parkingConsidered || !elevator.isIdle()) {
+            return false;
+        }
+        parkingConsidered = true;
+
+        List<ElevatorSnapshot> snapshots = new ArrayList<>(fleet.size());
+        for (int i = 0; i < fleet.size(); i++) {
+            snapshots.add(fleet.getControllerAt(i).getElevator().getSnapshot());
+        }
+        int floor = parkingPolicy.selectParkingFloor(elevator.getSnapshot(), snapshots, clock.timeOfDayMillis());
+        if (floor == FloorSet.NONE || floor == elevator.getCurrentFloor() || !elevator.parkAt(floor)) {
+            return false;
+        }
+        EventLog.log(LogLevel.DEBUG, "Elevator {} parking at floor {}", elevator.getId(), floor);
+        return true;
+    }
+
+    void driveWith(TickEngine engine) {
+        this.engine = engine;
+    }
+
     public Elevator getElevator() {
         return elevator;
     }
 
     public void stop() {
         running = false;
+        wakeup.signal();
     }
 }
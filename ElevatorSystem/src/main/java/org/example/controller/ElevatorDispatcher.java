@@ -1,41 +1,141 @@
 package org.example.controller;
 
-import org.example.models.Elevator;
+import org.example.clock.SimulationClock;
+import org.example.enums.Direction;
+import org.example.enums.ElevatorState;
+import org.example.enums.LogLevel;
+import org.example.enums.OverloadPolicy;
+import org.example.enums.RequestPriority;
+import org.example.enums.RequestType;
+import org.example.jfr.DispatchDecisionEvent;
+import org.example.logging.EventLog;
+import org.example.metrics.ElevatorMetrics;
+import org.example.models.ElevatorSnapshot;
 import org.example.models.Request;
 import org.example.strategy.ElevatorSelectionStrategy;
+import org.example.trace.TraceJournal;
+
+import jdk.jfr.EventType;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Dispatcher that assigns requests to appropriate elevators
  * Single Responsibility: Manages request distribution
  * Dependency Inversion: Depends on abstraction (ElevatorSelectionStrategy)
+ * Batch mode: waits a short window after the first pending request and
+ * hands everything queued by then to the strategy as one batch
+ * Bounded queue: request storms hit the OverloadPolicy instead of growing memory
+ * Ingestion is allocation-free: producers write primitives into a RequestRingBuffer.
+ * The dispatcher thread turns each call into one Request, the object the chosen
+ * car (and reallocation) keeps; beyond that a decision allocates nothing while JFR
+ * is not recording. The car publishes a new snapshot when it queues the stop.
+ * Priority: drained requests wait in a PendingRequestQueue heap, highest
+ * RequestPriority first with aging, FIFO within a class. Priority only decides
+ * the order in which queued calls are dispatched: single mode takes one call per
+ * pass, so it matters only while calls back up (bursts, overload), and the
+ * strategies score every call the same regardless of its class or age
+ * Every dispatch decision scores one snapshot per car, taken once up front
+ * into a reused array; the chosen controller is looked up by id in O(1)
+ * Instrumented: with ElevatorMetrics, starts the wait clock of each hall call and
+ * times every selection decision; each decision is also a DispatchDecisionEvent
+ * in JFR recordings, with per-car scores only built while the event is enabled
+ * Reallocation: optionally re-scores assigned hall calls that are still waiting
+ * every interval and moves one to another car when that car beats the assigned
+ * car (scored as if it had not taken the call) by the hysteresis margin
  */
 public class ElevatorDispatcher implements Runnable {
-    private final List<ElevatorController> elevatorControllers;
-    private final BlockingQueue<Request> requestQueue;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final long BLOCKED_RETRY_MS = 10;
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+    private static final EventType DECISION_EVENT = EventType.getEventType(DispatchDecisionEvent.class);
+
+    private final ElevatorRegistry registry;
+    private final ElevatorSnapshot[] snapshots; // Dispatcher thread only, refilled per decision
+    private final List<ElevatorSnapshot> snapshotView;
+    private final RequestRingBuffer requestBuffer;
+    private final PendingRequestQueue pendingQueue; // Dispatcher thread only; with the ring, at most its capacity
+    private final List<Request> pendingRequests; // Dispatcher thread only: the batch being dispatched
+    private final RequestRingBuffer.Handler requestDecoder;
+    private final Request.Builder requestBuilder; // Dispatcher thread only, reused by requestDecoder
     private final ElevatorSelectionStrategy selectionStrategy;
+    private final SimulationClock clock;
+    private final SimulationClock.Signal requestSignal;
+    private final boolean batchDispatch;
+    private final long batchWindowMillis;
+    private final OverloadPolicy overloadPolicy;
+    private final TraceJournal journal; // Optional
+    private final ElevatorMetrics metrics; // Optional
+    private final long reallocationIntervalMillis; // 0: assignments are final
+    private final double reallocationHysteresis;
+    private final Request[] assignedCalls; // Dispatcher thread only: per floor and direction, while reallocating
+    private final int[] assignedElevators;
+    private int assignedCallCount;
+    private long nextReallocationMillis;
     private volatile boolean running;
 
     public ElevatorDispatcher(List<ElevatorController> elevatorControllers, 
-                             ElevatorSelectionStrategy selectionStrategy) {
-        this.elevatorControllers = elevatorControllers;
-        this.requestQueue = new LinkedBlockingQueue<>();
-        this.selectionStrategy = selectionStrategy;
+                             ElevatorSelectionStrategy selectionStrategy,
+                             SimulationClock clock) {
+        this(new Builder()
+                .elevatorControllers(elevatorControllers)
+                .selectionStrategy(selectionStrategy)
+                .clock(clock));
+    }
+
+    private ElevatorDispatcher(Builder builder) {
+        this.registry = builder.registry;
+        this.snapshots = new ElevatorSnapshot[registry.size()];
+        this.snapshotView = Arrays.asList(snapshots); // Fixed-size view, no copy
+        this.requestBuffer = new RequestRingBuffer(builder.queueCapacity);
+        this.pendingQueue = new PendingRequestQueue();
+        this.pendingRequests = new ArrayList<>();
+        this.requestDecoder = this::decodeRequest;
+        this.requestBuilder = new Request.Builder();
+        this.selectionStrategy = builder.selectionStrategy;
+        this.clock = builder.clock;
+        this.requestSignal = clock.newSignal();
+        this.batchDispatch = builder.batchDispatch;
+        this.batchWindowMillis = builder.batchWindowMillis;
+        this.overloadPolicy = builder.overloadPolicy;
+        this.journal = builder.journal;
+        this.metrics = builder.metrics;
+        this.reallocationIntervalMillis = builder.reallocationIntervalMillis;
+        this.reallocationHysteresis = builder.reallocationHysteresis;
+        int slots = reallocationIntervalMillis > 0 && registry.size() > 0
+                ? registry.getControllerAt(0).getElevator().getNumberOfFloors() * 2 : 0;
+        this.assignedCalls = new Request[slots];
+        this.assignedElevators = new int[slots];
         this.running = true;
     }
 
     @Override
     public void run() {
-        System.out.println("Elevator Dispatcher started");
+        EventLog.log(LogLevel.INFO, "Elevator Dispatcher started");
         
         while (running) {
             try {
-                Request request = requestQueue.take(); // Blocking call
-                dispatchRequest(request);
+                if (reallocationIntervalMillis > 0 && clock.currentTimeMillis() >= nextReallocationMillis) {
+                    reallocateHallCalls();
+                    nextReallocationMillis = clock.currentTimeMillis() + reallocationIntervalMillis;
+                }
+                if (requestBuffer.isEmpty() && pendingQueue.isEmpty()) {
+                    if (assignedCallCount > 0) {
+                        // Calls are still waiting: wake up for the next pass even without new requests
+                        requestSignal.await(nextReallocationMillis - clock.currentTimeMillis());
+                    } else {
+                        requestSignal.await(); // Blocks until a request is submitted
+                    }
+                    continue;
+                }
+
+                if (batchDispatch && batchWindowMillis > 0) {
+                    clock.sleep(batchWindowMillis); // Let the rest of a burst arrive
+                }
+                dispatchPending();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
@@ -43,42 +143,473 @@ public class ElevatorDispatcher implements Runnable {
         }
     }
 
+    /**
+     * One pass of run() after any batch window: drains submitted requests and dispatches the
+     * highest-priority one, or everything pending as one batch in batch mode.
+     * Dispatcher thread only; benchmarks call it to drive the whole path on their own thread.
+     */
+    public void dispatchPending() {
+        drainRequests();
+        if (pendingQueue.isEmpty()) {
+            return;
+        }
+        if (batchDispatch) {
+            while (!pendingQueue.isEmpty()) {
+                pendingRequests.add(pendingQueue.poll()); // Highest priority first
+            }
+            dispatchBatch(pendingRequests);
+            pendingRequests.clear();
+        } else {
+            dispatchRequest(pendingQueue.poll());
+        }
+    }
+
+    // Moves queued requests into the priority heap, never holding more than the ring's capacity in total
+    private void drainRequests() {
+        requestBuffer.drain(requestDecoder, Math.max(0, requestBuffer.capacity() - pendingQueue.size()));
+    }
+
+    // The ring buffer tag carries the RequestPriority ordinal
+    private void decodeRequest(int sourceFloor, int destinationFloor, Direction direction,
+                               RequestType requestType, int tag, long timestampNanos) {
+        pendingQueue.add(requestBuilder
+                .sourceFloor(sourceFloor)
+                .destinationFloor(destinationFloor == RequestRingBuffer.NO_FLOOR ? null : destinationFloor)
+                .direction(direction)
+                .requestType(requestType)
+                .priority(PRIORITIES[tag])
+                .timestampNanos(timestampNanos)
+                .build());
+    }
+
     private void dispatchRequest(Request request) {
-        System.out.println("\n=== Dispatching Request ===");
-        System.out.println(request);
+        EventLog.log(LogLevel.INFO, "Dispatching {}", request);
+        recordHallCall(request);
 
-        List<Elevator> elevators = new ArrayList<>();
-        for (ElevatorController controller : elevatorControllers) {
-            elevators.add(controller.getElevator());
+        DispatchDecisionEvent decision = beginDecision();
+        long decisionStart = System.nanoTime();
+        ElevatorController controller = selectController(request);
+        long decisionNanos = System.nanoTime() - decisionStart;
+        if (decision != null) {
+            decision.end();
+        }
+        if (metrics != null) {
+            metrics.recordDispatchLatency(decisionNanos);
+        }
+        if (decision != null && decision.shouldCommit()) {
+            commitDecision(decision, request, controller != null ? controller.getElevator().getId() : -1);
         }
+        if (controller != null) {
+            EventLog.log(LogLevel.INFO, "Selected Elevator {} for request", controller.getElevator().getId());
+            controller.handleRequest(request);
+            trackAssignment(request, controller.getElevator().getId());
+        } else {
+            EventLog.log(LogLevel.WARN, "No available elevator found for {}", request);
+        }
+    }
+
+    /**
+     * Runs the selection strategy over fresh snapshots of the fleet without assigning the request.
+     * Dispatcher thread only: the snapshot array is reused across calls.
+     * @return Controller of the chosen car, or null if none is available
+     */
+    public ElevatorController selectController(Request request) {
+        ElevatorSnapshot selected = selectionStrategy.selectElevator(takeSnapshots(), request);
+        return selected != null ? registry.getController(selected.getElevatorId()) : null;
+    }
+
+    private void dispatchBatch(List<Request> batch) {
+        EventLog.log(LogLevel.INFO, "Dispatching batch of {} requests", batch.size());
 
-        Elevator selectedElevator = selectionStrategy.selectElevator(elevators, request);
+        for (int i = 0; i < batch.size(); i++) {
+            recordHallCall(batch.get(i));
+        }
 
+        DispatchDecisionEvent decision = beginDecision();
+        long decisionStart = System.nanoTime();
+        List<ElevatorSnapshot> selectedElevators = selectionStrategy.selectElevators(takeSnapshots(), batch);
+        long decisionNanos = System.nanoTime() - decisionStart;
+        if (decision != null) {
+            decision.end();
+        }
+        if (metrics != null) {
+            metrics.recordDispatchLatency(decisionNanos); // One decision for the whole batch
+        }
+        if (decision != null && decision.shouldCommit()) {
+            commitBatchDecision(decision, batch, selectedElevators);
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            EventLog.log(LogLevel.INFO, "Dispatching {}", batch.get(i));
+            assignRequest(batch.get(i), selectedElevators.get(i));
+        }
+    }
+
+    // Null unless a JFR recording enables decision events, so an unrecorded decision allocates no event
+    private static DispatchDecisionEvent beginDecision() {
+        if (!DECISION_EVENT.isEnabled()) {
+            return null;
+        }
+        DispatchDecisionEvent decision = new DispatchDecisionEvent();
+        decision.begin();
+        return decision;
+    }
+
+    // Only while a recording enables the event; snapshots still holds the fleet the strategy scored
+    private void commitDecision(DispatchDecisionEvent decision, Request request, int chosenElevator) {
+        StringBuilder scores = new StringBuilder();
+        int candidates = 0;
+        for (ElevatorSnapshot snapshot : snapshots) {
+            if (!snapshot.isAvailable()) {
+                continue;
+            }
+            if (candidates++ > 0) {
+                scores.append(' ');
+            }
+            scores.append(snapshot.getElevatorId()).append('=')
+                    .append(selectionStrategy.scoreElevator(snapshot, request));
+        }
+
+        decision.strategy = selectionStrategy.getClass().getSimpleName();
+        decision.requests = 1;
+        decision.sourceFloor = request.getSourceFloor();
+        decision.direction = String.valueOf(request.getDirection());
+        decision.chosenElevator = chosenElevator;
+        decision.candidates = candidates;
+        decision.candidateScores = scores.toString();
+        decision.commit();
+    }
+
+    private void commitBatchDecision(DispatchDecisionEvent decision, List<Request> batch,
+                                     List<ElevatorSnapshot> selectedElevators) {
+        int candidates = 0;
+        for (ElevatorSnapshot snapshot : snapshots) {
+            if (snapshot.isAvailable()) {
+                candidates++;
+            }
+        }
+        StringBuilder assignments = new StringBuilder();
+        for (int i = 0; i < batch.size(); i++) {
+            ElevatorSnapshot selected = selectedElevators.get(i);
+            if (i > 0) {
+                assignments.append(", ");
+            }
+            assignments.append(batch.get(i).getSourceFloor()).append(' ').append(batch.get(i).getDirection())
+                    .append(" -> ").append(selected != null ? selected.getElevatorId() : -1);
+        }
+
+        decision.strategy = selectionStrategy.getClass().getSimpleName();
+        decision.requests = batch.size();
+        decision.sourceFloor = -1;
+        decision.chosenElevator = -1;
+        decision.candidates = candidates;
+        decision.assignments = assignments.toString();
+        decision.commit();
+    }
+
+    // Before assignment, so the assigned car cannot arrive before the call is on record
+    private void recordHallCall(Request request) {
+        if (metrics != null && request.getRequestType() == RequestType.HALL_REQUEST) {
+            metrics.recordHallCall(request.getSourceFloor(), request.getDirection(), request.getTimestampNanos());
+        }
+    }
+
+    private List<ElevatorSnapshot> takeSnapshots() {
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = registry.getControllerAt(i).getElevator().getSnapshot();
+        }
+        return snapshotView;
+    }
+
+    private void assignRequest(Request request, ElevatorSnapshot selectedElevator) {
         if (selectedElevator != null) {
-            System.out.println("Selected Elevator " + selectedElevator.getId() + " for request");
-            
-            // Find the controller for this elevator
-            for (ElevatorController controller : elevatorControllers) {
-                if (controller.getElevator().getId() == selectedElevator.getId()) {
-                    controller.handleRequest(request);
-                    break;
+            EventLog.log(LogLevel.INFO, "Selected Elevator {} for request", selectedElevator.getElevatorId());
+            registry.getController(selectedElevator.getElevatorId()).handleRequest(request);
+            trackAssignment(request, selectedElevator.getElevatorId());
+        } else {
+            EventLog.log(LogLevel.WARN, "No available elevator found for {}", request);
+        }
+    }
+
+    private void trackAssignment(Request request, int elevatorId) {
+        if (assignedCalls.length == 0 || request.getRequestType() != RequestType.HALL_REQUEST) {
+            return;
+        }
+        int slot = request.getSourceFloor() * 2 + (request.getDirection() == Direction.DOWN ? 1 : 0);
+        if (slot < 0 || slot >= assignedCalls.length) {
+            return;
+        }
+        if (assignedCalls[slot] == null) {
+            assignedCallCount++;
+        }
+        assignedCalls[slot] = request; // A call submitted again (e.g. after a bypass) replaces the old one
+        assignedElevators[slot] = elevatorId;
+    }
+
+    private void untrack(int slot) {
+        assignedCalls[slot] = null;
+        assignedCallCount--;
+    }
+
+    /**
+     * One reallocation pass over fresh snapshots. A call stops being tracked once a
+     * car opens its doors at the floor, or once its car no longer stops there (a full
+     * car bypassed it and it was submitted again). The assigned car is scored without
+     * the call's stop, so the comparison is what each car would add by taking it.
+     */
+    private void reallocateHallCalls() {
+        if (assignedCallCount == 0) {
+            return;
+        }
+        takeSnapshots();
+        for (int slot = 0; slot < assignedCalls.length; slot++) {
+            Request call = assignedCalls[slot];
+            if (call == null) {
+                continue;
+            }
+            int floor = call.getSourceFloor();
+            int assigned = indexOf(assignedElevators[slot]);
+            if (assigned < 0 || isServed(floor) || !snapshots[assigned].hasStopAt(floor)) {
+                untrack(slot);
+                continue;
+            }
+            if (snapshots[assigned].getPendingStopCount() == 1) {
+                continue; // Nothing else can delay the car on its way here
+            }
+            int opposite = slot ^ 1;
+            if (assignedCalls[opposite] != null && assignedElevators[opposite] == assignedElevators[slot]) {
+                continue; // One stop serves both directions here; leave it with this car
+            }
+
+            double assignedCost = selectionStrategy.scoreElevator(snapshots[assigned].withoutStopAt(floor), call);
+            if (Double.isNaN(assignedCost)) {
+                return; // The strategy cannot compare cars one at a time
+            }
+            int best = -1;
+            double bestCost = assignedCost * (1 - reallocationHysteresis);
+            for (int i = 0; i < snapshots.length; i++) {
+                if (i == assigned || !snapshots[i].isAvailable()) {
+                    continue;
+                }
+                double cost = selectionStrategy.scoreElevator(snapshots[i], call);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = i;
                 }
             }
-        } else {
-            System.out.println("No available elevator found for request");
+            if (best < 0) {
+                continue;
+            }
+
+            ElevatorController from = registry.getControllerAt(assigned);
+            if (!from.withdrawHallCall(floor)) {
+                continue; // The car is already opening there, or a passenger wants that floor anyway
+            }
+            ElevatorController to = registry.getControllerAt(best);
+            to.handleRequest(call);
+            assignedElevators[slot] = to.getElevator().getId();
+            EventLog.log(LogLevel.INFO, "Reassigned hall call at floor {} from Elevator {} to Elevator {}",
+                    floor, from.getElevator().getId(), to.getElevator().getId());
+            if (metrics != null) {
+                metrics.recordReassignment();
+            }
+            snapshots[assigned] = from.getElevator().getSnapshot();
+            snapshots[best] = to.getElevator().getSnapshot();
         }
     }
 
-    public void submitRequest(Request request) {
+    // Doors open at the floor: the hall calls there are being served
+    private boolean isServed(int floor) {
+        for (ElevatorSnapshot snapshot : snapshots) {
+            if (snapshot.getCurrentFloor() == floor && snapshot.getState() == ElevatorState.DOOR_OPEN) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOf(int elevatorId) {
+        for (int i = 0; i < snapshots.length; i++) {
+            if (snapshots[i].getElevatorId() == elevatorId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Queues a request for dispatch, applying the overload policy when the queue is full
+     * A request built without a timestamp is stamped with the dispatcher clock, so it
+     * ages on the same timeline as every other pending call
+     * @return false if the request was rejected
+     */
+    public boolean submitRequest(Request request) {
+        Integer destinationFloor = request.getDestinationFloor();
+        long now = clock.nanoTime();
+        if (journal != null) {
+            journal.recordDispatcherRequest(request.getSourceFloor(),
+                    destinationFloor != null ? destinationFloor : RequestRingBuffer.NO_FLOOR,
+                    request.getDirection(), request.getRequestType(), now);
+        }
+        return submit(request.getSourceFloor(),
+                destinationFloor != null ? destinationFloor : RequestRingBuffer.NO_FLOOR,
+                request.getDirection(), request.getRequestType(), request.getPriority(),
+                request.hasTimestamp() ? request.getTimestampNanos() : now);
+    }
+
+    /**
+     * Allocation-free variant of submitRequest for hall calls, stamped with the dispatcher clock
+     * @return false if the request was rejected
+     */
+    public boolean submitHallCall(int floor, Direction direction) {
+        return submitHallCall(floor, direction, RequestPriority.NORMAL);
+    }
+
+    /**
+     * Hall call of the given service class
+     * @return false if the request was rejected
+     */
+    public boolean submitHallCall(int floor, Direction direction, RequestPriority priority) {
+        return submit(floor, RequestRingBuffer.NO_FLOOR, direction, RequestType.HALL_REQUEST, priority,
+                clock.nanoTime());
+    }
+
+    private boolean submit(int sourceFloor, int destinationFloor, Direction direction,
+                           RequestType requestType, RequestPriority priority, long timestampNanos) {
         try {
-            requestQueue.put(request);
-            System.out.println("Request queued: " + request);
+            while (!requestBuffer.offer(sourceFloor, destinationFloor, direction, requestType, priority.ordinal(),
+                    timestampNanos)) {
+                if (overloadPolicy == OverloadPolicy.REJECT) {
+                    EventLog.log(LogLevel.WARN, "Dispatcher overloaded, request rejected: floor {} {}", sourceFloor, direction);
+                    return false;
+                }
+                backOff(); // Back-pressure: hold the caller until a slot frees up
+            }
+            EventLog.log(LogLevel.DEBUG, "Request queued: floor {} {}", sourceFloor, direction);
+            requestSignal.signal();
+            return true;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // A thread outside a simulated clock (e.g. a test driver feeding requests) cannot sleep on it: wait in real time
+    private void backOff() throws InterruptedException {
+        if (clock.canSleep()) {
+            clock.sleep(BLOCKED_RETRY_MS);
+            return;
+        }
+        LockSupport.parkNanos(BLOCKED_RETRY_MS * 1_000_000L);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
         }
     }
 
     public void stop() {
         running = false;
+        requestSignal.signal();
+    }
+
+    /**
+     * Builder Pattern: the dispatcher has several optional tuning knobs
+     */
+    public static class Builder {
+        private ElevatorRegistry registry;
+        private ElevatorSelectionStrategy selectionStrategy;
+        private SimulationClock clock;
+        private boolean batchDispatch;
+        private long batchWindowMillis;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private OverloadPolicy overloadPolicy = OverloadPolicy.BLOCK;
+        private TraceJournal journal;
+        private ElevatorMetrics metrics;
+        private long reallocationIntervalMillis;
+        private double reallocationHysteresis;
+
+        public Builder elevatorControllers(List<ElevatorController> elevatorControllers) {
+            this.registry = new ElevatorRegistry(elevatorControllers);
+            return this;
+        }
+
+        /**
+         * Shares an existing registry instead of indexing the controllers again
+         */
+        public Builder registry(ElevatorRegistry registry) {
+            this.registry = registry;
+            return this;
+        }
+
+        public Builder selectionStrategy(ElevatorSelectionStrategy selectionStrategy) {
+            this.selectionStrategy = selectionStrategy;
+            return this;
+        }
+
+        public Builder clock(SimulationClock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Collects requests for the given window after the first one arrives
+         * and hands them to the strategy as one batch
+         */
+        public Builder batchDispatch(long windowMillis) {
+            this.batchDispatch = true;
+            this.batchWindowMillis = windowMillis;
+            return this;
+        }
+
+        /**
+         * Bounds the request queue (rounded up to a power of two) and sets what happens when it is full
+         */
+        public Builder requestQueue(int capacity, OverloadPolicy overloadPolicy) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Request queue capacity must be positive");
+            }
+            this.queueCapacity = capacity;
+            this.overloadPolicy = overloadPolicy;
+            return this;
+        }
+
+        /**
+         * Journals every submitRequest call for later replay
+         */
+        public Builder journal(TraceJournal journal) {
+            this.journal = journal;
+            return this;
+        }
+
+        /**
+         * Records hall-call waits and dispatch-decision latency
+         */
+        public Builder metrics(ElevatorMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Re-scores waiting hall calls every interval and moves a call to another car
+         * when its cost is lower than the assigned car's by more than the hysteresis
+         * fraction (0.3: at least 30% lower). Keep the interval below a door cycle so
+         * served calls are noticed.
+         */
+        public Builder reallocation(long intervalMillis, double hysteresis) {
+            if (intervalMillis <= 0) {
+                throw new IllegalArgumentException("Reallocation interval must be positive");
+            }
+            if (hysteresis < 0 || hysteresis >= 1) {
+                throw new IllegalArgumentException("Hysteresis must be in [0, 1): " + hysteresis);
+            }
+            this.reallocationIntervalMillis = intervalMillis;
+            this.reallocationHysteresis = hysteresis;
+            return this;
+        }
+
+        public ElevatorDispatcher build() {
+            if (registry == null || selectionStrategy == null || clock == null) {
+                throw new IllegalStateException("Dispatcher requires controllers, strategy, and clock");
+            }
+            return new ElevatorDispatcher(this);
+        }
     }
 }
@@ -0,0 +1,66 @@
+package org.example.controller;
+
+import org.example.models.Elevator;
+
+import java.util.List;
+
+/**
+ * Array-backed registry of the fleet, indexed by elevator id
+ * Lookups by id are a single array read, and callers can walk the fleet by
+ * position without copying it into a new collection.
+ */
+public class ElevatorRegistry {
+    private final ElevatorController[] controllers; // In registration order
+    private final ElevatorController[] controllersById;
+
+    public ElevatorRegistry(List<ElevatorController> controllers) {
+        this.controllers = controllers.toArray(new ElevatorController[0]);
+
+        int maxId = -1;
+        for (ElevatorController controller : this.controllers) {
+            int id = controller.getElevator().getId();
+            if (id < 0) {
+                throw new IllegalArgumentException("Elevator ids must be non-negative: " + id);
+            }
+            maxId = Math.max(maxId, id);
+        }
+
+        this.controllersById = new ElevatorController[maxId + 1];
+        for (ElevatorController controller : this.controllers) {
+            int id = controller.getElevator().getId();
+            if (controllersById[id] != null) {
+                throw new IllegalArgumentException("Duplicate elevator id: " + id);
+            }
+            controllersById[id] = controller;
+        }
+    }
+
+    /**
+     * @return The controller driving the given car, or null if the id is unknown
+     */
+    public ElevatorController getController(int elevatorId) {
+        if (elevatorId < 0 || elevatorId >= controllersById.length) {
+            return null;
+        }
+        return controllersById[elevatorId];
+    }
+
+    /**
+     * @return The car with the given id, or null if the id is unknown
+     */
+    public Elevator getElevator(int elevatorId) {
+        ElevatorController controller = getController(elevatorId);
+        return controller != null ? controller.getElevator() : null;
+    }
+
+    /**
+     * @param index Position in registration order, 0 <= index < size()
+     */
+    public ElevatorController getControllerAt(int index) {
+        return controllers[index];
+    }
+
+    public int size() {
+        return controllers.length;
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.controller;
+
+import org.example.enums.RequestPriority;
+import org.example.models.Request;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of requests waiting for a dispatch decision, O(log n) add and poll
+ *
+ * Ordered by RequestPriority with aging: a call ranks by its timestamp minus its
+ * class's head start, so ranks never change while calls wait and the heap needs
+ * no re-sorting as they age. FIRE_SERVICE calls rank above all others; ties go to
+ * the call queued first. Entries live in parallel primitive arrays that only grow.
+ * Single-threaded: the dispatcher thread owns it.
+ */
+public class PendingRequestQueue {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Request[] requests;
+    private boolean[] overridesAging; // Ranked ahead of every call that ages
+    private long[] ranks;             // Timestamp minus head start, lower first
+    private long[] sequences;         // Queue order, for ties
+    private int size;
+    private long nextSequence;
+
+    public PendingRequestQueue() {
+        this.requests = new Request[INITIAL_CAPACITY];
+        this.overridesAging = new boolean[INITIAL_CAPACITY];
+        this.ranks = new long[INITIAL_CAPACITY];
+        this.sequences = new long[INITIAL_CAPACITY];
+    }
+
+    public void add(Request request) {
+        if (size == requests.length) {
+            grow();
+        }
+        RequestPriority priority = request.getPriority();
+        int index = size++;
+        requests[index] = request;
+        overridesAging[index] = priority.overridesAging();
+        ranks[index] = priority.overridesAging()
+                ? request.getTimestampNanos() : request.getTimestampNanos() - priority.getHeadStartMillis() * 1_000_000L;
+        sequences[index] = nextSequence++;
+        siftUp(index);
+    }
+
+    /**
+     * @return The highest-ranked request, or null if none is pending
+     */
+    public Request poll() {
+        if (size == 0) {
+            return null;
+        }
+        Request first = requests[0];
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+        requests[size] = null;
+        return first;
+    }
+
+    public Request peek() {
+        return size == 0 ? null : requests[0];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(index, parent)) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && before(child + 1, child)) {
+                child++;
+            }
+            if (!before(child, index)) {
+                return;
+            }
+            swap(index, child);
+            index = child;
+        }
+    }
+
+    private boolean before(int a, int b) {
+        if (overridesAging[a] != overridesAging[b]) {
+            return overridesAging[a];
+        }
+        if (ranks[a] != ranks[b]) {
+            return ranks[a] < ranks[b];
+        }
+        return sequences[a] < sequences[b];
+    }
+
+    private void swap(int a, int b) {
+        Request request = requests[a];
+        boolean overrides = overridesAging[a];
+        long rank = ranks[a];
+        long sequence = sequences[a];
+        move(b, a);
+        requests[b] = request;
+        overridesAging[b] = overrides;
+        ranks[b] = rank;
+        sequences[b] = sequence;
+    }
+
+    private void move(int from, int to) {
+        requests[to] = requests[from];
+        overridesAging[to] = overridesAging[from];
+        ranks[to] = ranks[from];
+        sequences[to] = sequences[from];
+    }
+
+    private void grow() {
+        int capacity = requests.length * 2;
+        requests = Arrays.copyOf(requests, capacity);
+        overridesAging = Arrays.copyOf(overridesAging, capacity);
+        ranks = Arrays.copyOf(ranks, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.controller;
+
+import org.example.enums.Direction;
+import org.example.enums.RequestType;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Preallocated, lock-free multi-producer/single-consumer ring buffer for requests
+ *
+ * Each entry is packed into primitives (floors, direction, type, a nanosecond
+ * timestamp and a caller-defined int tag), so offering a request allocates nothing. Producers claim slots with
+ * a CAS on the tail; every slot carries a sequence number that publishes it to
+ * the consumer and hands it back to producers once consumed.
+ */
+public class RequestRingBuffer {
+    public static final int NO_FLOOR = -1;
+
+    private static final int FLOOR_BITS = 21;
+    private static final long FLOOR_MASK = (1L << FLOOR_BITS) - 1;
+    private static final int DESTINATION_SHIFT = FLOOR_BITS;
+    private static final int DIRECTION_SHIFT = 2 * FLOOR_BITS;
+    private static final int TYPE_SHIFT = DIRECTION_SHIFT + 2;
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final RequestType[] REQUEST_TYPES = RequestType.values();
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final long[] packedRequests;
+    private final long[] timestamps;
+    private final int[] tags;
+    private final AtomicLong tail;
+    private long head; // Consumer thread only
+
+    /**
+     * @param capacity Minimum number of slots; rounded up to a power of two
+     */
+    public RequestRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Ring buffer capacity out of range: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.packedRequests = new long[size];
+        this.timestamps = new long[size];
+        this.tags = new int[size];
+        this.tail = new AtomicLong();
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Safe to call from any number of threads
+     * @param destinationFloor Destination, or NO_FLOOR for hall calls
+     * @return false if the buffer is full
+     */
+    public boolean offer(int sourceFloor, int destinationFloor, Direction direction,
+                         RequestType requestType, long timestampNanos) {
+        return offer(sourceFloor, destinationFloor, direction, requestType, 0, timestampNanos);
+    }
+
+    /**
+     * @param tag Passed through to the handler unchanged
+     * @return false if the buffer is full
+     */
+    public boolean offer(int sourceFloor, int destinationFloor, Direction direction,
+                         RequestType requestType, int tag, long timestampNanos) {
+        if (sourceFloor < 0 || sourceFloor >= FLOOR_MASK || destinationFloor < NO_FLOOR
+                || destinationFloor >= FLOOR_MASK) {
+            throw new IllegalArgumentException("Floor out of encodable range");
+        }
+
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // Slot still holds an unconsumed entry from the previous lap
+            } else {
+                position = tail.get(); // Another producer claimed it; reload
+            }
+        }
+
+        packedRequests[index] = pack(sourceFloor, destinationFloor, direction, requestType);
+        timestamps[index] = timestampNanos;
+        tags[index] = tag;
+        sequences.lazySet(index, position + 1); // Publish to the consumer
+        return true;
+    }
+
+    /**
+     * Consumer thread only: hands up to maxEntries published requests to the handler
+     * @return Number of requests drained
+     */
+    public int drain(Handler handler, int maxEntries) {
+        int drained = 0;
+        while (drained < maxEntries) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break; // Empty, or the next producer has not published yet
+            }
+
+            long packed = packedRequests[index];
+            long timestamp = timestamps[index];
+            int tag = tags[index];
+            sequences.lazySet(index, head + mask + 1); // Hand the slot back to producers
+            head++;
+            drained++;
+
+            handler.onRequest(
+                    (int) (packed & FLOOR_MASK),
+                    (int) ((packed >>> DESTINATION_SHIFT) & FLOOR_MASK) - 1,
+                    decode(DIRECTIONS, (int) ((packed >>> DIRECTION_SHIFT) & 3)),
+                    decode(REQUEST_TYPES, (int) ((packed >>> TYPE_SHIFT) & 3)),
+                    tag,
+                    timestamp);
+        }
+        return drained;
+    }
+
+    public boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private static long pack(int sourceFloor, int destinationFloor, Direction direction, RequestType requestType) {
+        long directionCode = direction == null ? 3 : direction.ordinal();
+        long typeCode = requestType == null ? 3 : requestType.ordinal();
+        return sourceFloor
+                | ((long) (destinationFloor + 1) << DESTINATION_SHIFT)
+                | (directionCode << DIRECTION_SHIFT)
+                | (typeCode << TYPE_SHIFT);
+    }
+
+    private static <T> T decode(T[] values, int code) {
+        return code < values.length ? values[code] : null;
+    }
+
+    /**
+     * Receives decoded requests on the consumer thread
+     */
+    public interface Handler {
+        void onRequest(int sourceFloor, int destinationFloor, Direction direction,
+                       RequestType requestType, int tag, long timestampNanos);
+    }
+}
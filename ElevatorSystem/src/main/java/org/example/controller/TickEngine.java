@@ -0,0 +1,101 @@
+package org.example.controller;
+
+import org.example.clock.SimulationClock;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.models.Elevator;
+import org.example.models.Request;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Alternative to one thread per car: steps a group of elevators from a single
+ * event loop by advancing their non-blocking state machines every tick.
+ * Requests are queued and applied on the engine thread, so Elevator fields are
+ * only ever written by one thread. The loop parks while every car is idle.
+ */
+public class TickEngine implements Runnable {
+    private final List<ElevatorController> controllers;
+    private final SimulationClock clock;
+    private final long tickMillis;
+    private final Queue<PendingRequest> pendingRequests;
+    private final SimulationClock.Signal wakeup;
+    private volatile boolean running;
+
+    public TickEngine(List<ElevatorController> controllers, SimulationClock clock, long tickMillis) {
+        this.controllers = new ArrayList<>(controllers);
+        this.clock = clock;
+        this.tickMillis = tickMillis;
+        this.pendingRequests = new ConcurrentLinkedQueue<>();
+        this.wakeup = clock.newSignal();
+        this.running = true;
+
+        for (ElevatorController controller : this.controllers) {
+            controller.driveWith(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        EventLog.log(LogLevel.INFO, "Tick Engine started for {} elevators", controllers.size());
+        long lastTick = clock.currentTimeMillis();
+
+        while (running) {
+            try {
+                applyPendingRequests();
+
+                long now = clock.currentTimeMillis();
+                long elapsed = now - lastTick;
+                lastTick = now;
+
+                boolean busy = false;
+                for (ElevatorController controller : controllers) {
+                    Elevator elevator = controller.getElevator();
+                    elevator.tick(elapsed);
+                    controller.parkIfIdle();
+                    busy |= !elevator.isIdle() && elevator.isAvailable();
+                }
+
+                if (busy) {
+                    clock.sleep(tickMillis);
+                } else {
+                    wakeup.await(); // Park until a request arrives or stop()
+                    lastTick = clock.currentTimeMillis();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    void submit(ElevatorController controller, Request request) {
+        pendingRequests.offer(new PendingRequest(controller, request));
+        wakeup.signal();
+    }
+
+    private void applyPendingRequests() {
+        PendingRequest pending;
+        while ((pending = pendingRequests.poll()) != null) {
+            pending.controller.applyRequest(pending.request);
+        }
+    }
+
+    public void stop() {
+        running = false;
+        wakeup.signal();
+    }
+
+    private static class PendingRequest {
+        private final ElevatorController controller;
+        private final Request request;
+
+        private PendingRequest(ElevatorController controller, Request request) {
+            this.controller = controller;
+            this.request = request;
+        }
+    }
+}
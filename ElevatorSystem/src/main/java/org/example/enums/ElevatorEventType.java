@@ -0,0 +1,11 @@
+package org.example.enums;
+
+/**
+ * Represents a car event delivered to ElevatorEventListeners
+ */
+public enum ElevatorEventType {
+    MOVED,          // Car reached an adjacent floor
+    DOOR_OPENED,    // Doors finished opening
+    DOOR_CLOSED,    // Doors finished closing
+    STATE_CHANGED   // ElevatorState changed
+}
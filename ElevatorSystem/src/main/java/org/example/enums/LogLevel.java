@@ -0,0 +1,13 @@
+package org.example.enums;
+
+/**
+ * Represents the severity of a log event, from most to least verbose
+ */
+public enum LogLevel {
+    TRACE,  // Door transitions and other per-phase detail
+    DEBUG,  // Per-floor movement
+    INFO,   // Stops, button presses and dispatch decisions
+    WARN,   // Rejected or invalid requests
+    ERROR,
+    OFF     // Threshold only: disables all logging
+}
@@ -0,0 +1,9 @@
+package org.example.enums;
+
+/**
+ * Represents what the dispatcher does when its request queue is full
+ */
+public enum OverloadPolicy {
+    BLOCK,      // Caller waits until the dispatcher frees a slot, in clock time if it takes part in the clock
+    REJECT      // Request is refused; the hall button goes dark so it can be pressed again
+}
@@ -0,0 +1,31 @@
+package org.example.enums;
+
+/**
+ * Represents the service class of a call in the dispatcher queue
+ * A class ranks a call as if it had already waited its head start, so calls age:
+ * a NORMAL call that has waited longer than the difference still goes first.
+ * FIRE_SERVICE recall goes ahead of everything, however long the rest have waited.
+ */
+public enum RequestPriority {
+    NORMAL(0),
+    ACCESSIBILITY(30_000),      // Wheelchair or assistance call button
+    VIP(60_000),                // Key switch or access card
+    FIRE_SERVICE(Long.MAX_VALUE); // Fire-service recall
+
+    private final long headStartMillis;
+
+    RequestPriority(long headStartMillis) {
+        this.headStartMillis = headStartMillis;
+    }
+
+    public long getHeadStartMillis() {
+        return headStartMillis;
+    }
+
+    /**
+     * @return true if no amount of waiting lets another class overtake this one
+     */
+    public boolean overridesAging() {
+        return headStartMillis == Long.MAX_VALUE;
+    }
+}
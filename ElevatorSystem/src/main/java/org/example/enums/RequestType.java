@@ -5,5 +5,6 @@ package org.example.enums;
  */
 public enum RequestType {
     HALL_REQUEST,       // External request from floor hall button
-    ELEVATOR_REQUEST    // Internal request from inside elevator
+    ELEVATOR_REQUEST,   // Internal request from inside elevator
+    TRIP_REQUEST        // Destination dispatch: pickup for a passenger told to take this car
 }
@@ -0,0 +1,9 @@
+package org.example.enums;
+
+/**
+ * Represents the kind of threads that run controllers and the dispatcher
+ */
+public enum ThreadMode {
+    PLATFORM,   // One OS thread per controller
+    VIRTUAL     // JVM-scheduled virtual threads (Java 21+)
+}
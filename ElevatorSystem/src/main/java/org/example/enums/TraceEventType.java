@@ -0,0 +1,10 @@
+package org.example.enums;
+
+/**
+ * Represents the entry point a journaled request came through
+ */
+public enum TraceEventType {
+    HALL_CALL,          // Hall button press on Building, recorded before coalescing
+    CAR_CALL,           // Destination pressed inside a specific car
+    DISPATCHER_REQUEST  // Request submitted straight to the dispatcher
+}
@@ -0,0 +1,36 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one trip of a car towards a target floor
+ */
+@Name("org.example.elevator.CarMovement")
+@Label("Car Movement")
+@Category({"Elevator System", "Car"})
+@Description("Car travelling from one floor to a target floor")
+@StackTrace(false)
+public class CarMovementEvent extends Event {
+    @Label("Elevator")
+    public int elevatorId;
+
+    @Label("From Floor")
+    public int fromFloor;
+
+    @Label("To Floor")
+    public int toFloor;
+
+    @Label("Floors Travelled")
+    public int floorsTravelled;
+
+    @Label("Travel Time")
+    @Description("Trip time on the building clock, including stops on the way")
+    @Timespan(Timespan.MILLISECONDS)
+    public long travelMillis;
+}
@@ -0,0 +1,49 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one dispatcher decision; the event duration is the time the
+ * selection strategy took. Batch decisions carry every assignment instead of
+ * per-car scores.
+ */
+@Name("org.example.elevator.DispatchDecision")
+@Label("Dispatch Decision")
+@Category({"Elevator System", "Dispatcher"})
+@Description("Selection strategy choosing a car for a request or batch")
+@StackTrace(false)
+public class DispatchDecisionEvent extends Event {
+    @Label("Strategy")
+    public String strategy;
+
+    @Label("Requests")
+    @Description("Requests decided together; 1 outside batch dispatch")
+    public int requests;
+
+    @Label("Source Floor")
+    public int sourceFloor;
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Chosen Elevator")
+    @Description("Id of the selected car, -1 if none was available")
+    public int chosenElevator;
+
+    @Label("Candidates")
+    @Description("Cars in service when the decision was made")
+    public int candidates;
+
+    @Label("Candidate Scores")
+    @Description("elevatorId=score per candidate, lower is better")
+    public String candidateScores;
+
+    @Label("Assignments")
+    @Description("floor direction -> elevatorId per request of a batch")
+    public String assignments;
+}
@@ -0,0 +1,30 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one stop: doors opening, dwell and closing
+ */
+@Name("org.example.elevator.DoorCycle")
+@Label("Door Cycle")
+@Category({"Elevator System", "Car"})
+@Description("Car stopped at a floor and cycled its doors")
+@StackTrace(false)
+public class DoorCycleEvent extends Event {
+    @Label("Elevator")
+    public int elevatorId;
+
+    @Label("Floor")
+    public int floor;
+
+    @Label("Dwell")
+    @Description("Door cycle on the building clock; simulated time under a DiscreteEventClock")
+    @Timespan(Timespan.MILLISECONDS)
+    public long dwellMillis;
+}
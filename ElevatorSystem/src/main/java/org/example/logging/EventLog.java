@@ -0,0 +1,211 @@
+package org.example.logging;
+
+import org.example.enums.LogLevel;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Levelled, asynchronous event log used instead of System.out
+ *
+ * A disabled level costs one volatile read: the fixed-arity overloads take
+ * primitive arguments, so call sites build no strings and box nothing. Enabled
+ * events are copied into a lock-free EventLogBuffer and formatted by a single
+ * background flusher thread, so logging threads never contend on the PrintStream.
+ * "{}" in a template is replaced by the next argument; a Throwable passed as the
+ * last argument without a "{}" left for it is printed with its stack trace. When
+ * the buffer is full, events are dropped and counted rather than blocking the caller.
+ *
+ * The initial level comes from the elevator.log.level system property (default INFO).
+ */
+public final class EventLog {
+    private static final int BUFFER_CAPACITY = 16384;
+    private static final int DRAIN_BATCH = 512;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+
+    private static final EventLogBuffer BUFFER = new EventLogBuffer(BUFFER_CAPACITY);
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final long START_MILLIS = System.currentTimeMillis();
+    private static volatile int threshold = initialLevel().ordinal();
+    private static volatile PrintStream output = System.out;
+    private static final Thread FLUSHER = startFlusher();
+
+    private EventLog() {
+    }
+
+    public static boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= threshold;
+    }
+
+    public static void setLevel(LogLevel level) {
+        threshold = level.ordinal();
+    }
+
+    public static LogLevel getLevel() {
+        return LogLevel.values()[threshold];
+    }
+
+    /**
+     * Redirects formatted events (System.out by default)
+     */
+    public static void setOutput(PrintStream stream) {
+        output = stream;
+    }
+
+    public static void log(LogLevel level, String message) {
+        if (level.ordinal() >= threshold) {
+            append(level, message, 0, 0, null, 0, null, 0, null);
+        }
+    }
+
+    public static void log(LogLevel level, String template, long a) {
+        if (level.ordinal() >= threshold) {
+            append(level, template, 1, a, null, 0, null, 0, null);
+        }
+    }
+
+    public static void log(LogLevel level, String template, long a, long b) {
+        if (level.ordinal() >= threshold) {
+            append(level, template, 2, a, null, b, null, 0, null);
+        }
+    }
+
+    public static void log(LogLevel level, String template, long a, long b, long c) {
+        if (level.ordinal() >= threshold) {
+            append(level, template, 3, a, null, b, null, c, null);
+        }
+    }
+
+    public static void log(LogLevel level, String template, Object a) {
+        if (level.ordinal() >= threshold) {
+            append(level, template, 1, 0, nullSafe(a), 0, null, 0, null);
+        }
+    }
+
+    public static void log(LogLevel level, String template, long a, Object b) {
+        if (level.ordinal() >= threshold) {
+            append(level, template, 2, a, null, 0, nullSafe(b), 0, null);
+        }
+    }
+
+    public static void log(LogLevel level, String template, Object a, long b) {
+        if (level.ordinal() >= threshold) {
+            append(level, template, 2, 0, nullSafe(a), b, null, 0, null);
+        }
+    }
+
+    /**
+     * @return Events lost because the flusher could not keep up
+     */
+    public static long getDroppedEvents() {
+        return DROPPED.get();
+    }
+
+    /**
+     * Blocks until every event logged before this call has been written
+     */
+    public static void flush() {
+        long target = BUFFER.tailPosition();
+        while (BUFFER.headPosition() < target && FLUSHER.isAlive()) {
+            LockSupport.unpark(FLUSHER);
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+        output.flush();
+    }
+
+    private static void append(LogLevel level, String template, int argumentCount,
+                               long n0, Object o0, long n1, Object o1, long n2, Object o2) {
+        if (!BUFFER.offer(level, template, argumentCount, n0, o0, n1, o1, n2, o2)) {
+            DROPPED.incrementAndGet();
+        }
+    }
+
+    // A null object argument is stored as the string "null" so it is not read back as a number
+    private static Object nullSafe(Object argument) {
+        return argument != null ? argument : "null";
+    }
+
+    private static LogLevel initialLevel() {
+        String configured = System.getProperty("elevator.log.level");
+        if (configured == null) {
+            return LogLevel.INFO;
+        }
+        try {
+            return LogLevel.valueOf(configured.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return LogLevel.INFO;
+        }
+    }
+
+    private static Thread startFlusher() {
+        Flusher flusher = new Flusher();
+        Thread thread = new Thread(flusher, "Event-Log-Flusher");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(EventLog::flush, "Event-Log-Shutdown"));
+        return thread;
+    }
+
+    /**
+     * Background consumer: formats drained events into one reused builder
+     */
+    private static final class Flusher implements Runnable, EventLogBuffer.EventSink {
+        private final StringBuilder line = new StringBuilder(256);
+        private long reportedDrops;
+
+        @Override
+        public void run() {
+            while (true) {
+                int drained = BUFFER.drain(this, DRAIN_BATCH);
+                long drops = DROPPED.get();
+                if (drops != reportedDrops) {
+                    output.println("WARN  [Event-Log-Flusher] " + (drops - reportedDrops) + " log events dropped");
+                    reportedDrops = drops;
+                }
+                if (drained == 0) {
+                    output.flush();
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        }
+
+        @Override
+        public void onEvent(LogLevel level, long timestampMillis, String threadName, String template,
+                            int argumentCount, long[] numbers, Object[] objects, int offset) {
+            line.setLength(0);
+            appendPadded(line, level.name(), 5).append(' ');
+            line.append('+').append(timestampMillis - START_MILLIS).append("ms [").append(threadName).append("] ");
+
+            int argument = 0;
+            int length = template.length();
+            for (int i = 0; i < length; i++) {
+                char c = template.charAt(i);
+                if (c == '{' && i + 1 < length && template.charAt(i + 1) == '}' && argument < argumentCount) {
+                    Object object = objects[offset + argument];
+                    if (object != null) {
+                        line.append(object);
+                    } else {
+                        line.append(numbers[offset + argument]);
+                    }
+                    argument++;
+                    i++;
+                } else {
+                    line.append(c);
+                }
+            }
+            output.println(line);
+            if (argument < argumentCount && objects[offset + argumentCount - 1] instanceof Throwable) {
+                ((Throwable) objects[offset + argumentCount - 1]).printStackTrace(output);
+            }
+        }
+
+        private static StringBuilder appendPadded(StringBuilder builder, String text, int width) {
+            builder.append(text);
+            for (int i = text.length(); i < width; i++) {
+                builder.append(' ');
+            }
+            return builder;
+        }
+    }
+}
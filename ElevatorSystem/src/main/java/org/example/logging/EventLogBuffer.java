@@ -0,0 +1,139 @@
+package org.example.logging;
+
+import org.example.enums.LogLevel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Preallocated, lock-free multi-producer/single-consumer ring of log events
+ * An event is a level, a time, the logging thread's name, a message template and
+ * up to three arguments kept as raw longs or object references; nothing is
+ * formatted or allocated until the flusher drains it. Slots are claimed with a
+ * CAS on the tail and published through per-slot sequence numbers.
+ */
+final class EventLogBuffer {
+    static final int MAX_ARGUMENTS = 3;
+
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final byte[] levels;
+    private final long[] timestamps;
+    private final String[] threadNames;
+    private final String[] templates;
+    private final byte[] argumentCounts;
+    private final long[] numbers;   // MAX_ARGUMENTS per slot
+    private final Object[] objects; // MAX_ARGUMENTS per slot; non-null marks an object argument
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head; // Written by the consumer only
+
+    EventLogBuffer(int capacity) {
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.levels = new byte[size];
+        this.timestamps = new long[size];
+        this.threadNames = new String[size];
+        this.templates = new String[size];
+        this.argumentCounts = new byte[size];
+        this.numbers = new long[size * MAX_ARGUMENTS];
+        this.objects = new Object[size * MAX_ARGUMENTS];
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Safe to call from any number of threads
+     * @return false if the buffer is full
+     */
+    boolean offer(LogLevel level, String template, int argumentCount,
+                  long n0, Object o0, long n1, Object o1, long n2, Object o2) {
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        levels[index] = (byte) level.ordinal();
+        timestamps[index] = System.currentTimeMillis();
+        threadNames[index] = Thread.currentThread().getName();
+        templates[index] = template;
+        argumentCounts[index] = (byte) argumentCount;
+        int base = index * MAX_ARGUMENTS;
+        numbers[base] = n0;
+        objects[base] = o0;
+        numbers[base + 1] = n1;
+        objects[base + 1] = o1;
+        numbers[base + 2] = n2;
+        objects[base + 2] = o2;
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Consumer thread only: renders up to maxEvents published events
+     * @return Number of events drained
+     */
+    int drain(EventSink sink, int maxEvents) {
+        int drained = 0;
+        long position = head;
+        while (drained < maxEvents) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+
+            int base = index * MAX_ARGUMENTS;
+            sink.onEvent(LEVELS[levels[index]], timestamps[index], threadNames[index], templates[index],
+                    argumentCounts[index], numbers, objects, base);
+
+            // Drop references so drained events do not keep objects alive
+            threadNames[index] = null;
+            templates[index] = null;
+            objects[base] = null;
+            objects[base + 1] = null;
+            objects[base + 2] = null;
+            sequences.lazySet(index, position + mask + 1);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * @return Position the next producer will claim; events before it are drained once head passes it
+     */
+    long tailPosition() {
+        return tail.get();
+    }
+
+    long headPosition() {
+        return head;
+    }
+
+    /**
+     * Receives drained events on the consumer thread
+     */
+    interface EventSink {
+        void onEvent(LogLevel level, long timestampMillis, String threadName, String template,
+                     int argumentCount, long[] numbers, Object[] objects, int offset);
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.metrics;
+
+import org.example.enums.Direction;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Built-in service-level instrumentation for one building
+ *
+ * - Wait: hall call until a car leaving in its direction opened its doors at that floor
+ * - Ride: car call until the car opens its doors at the destination
+ * - Dispatch latency: CPU time the dispatcher spends choosing a car
+ * - Reassignments: hall calls the dispatcher moved to a better car later on
+ *
+ * Wait and ride are measured on the building's SimulationClock, so simulated
+ * runs report simulated time; dispatch latency is always real System.nanoTime.
+ * Banks of a zoned building each track their own hall calls but record into the
+ * same histograms (see forAnotherBank).
+ */
+public class ElevatorMetrics {
+    private static final long NO_CALL = Long.MIN_VALUE;
+
+    private final LatencyHistogram waitTimes;
+    private final LatencyHistogram rideTimes;
+    private final LatencyHistogram dispatchLatencies;
+    private final AtomicLong reassignedHallCalls; // Hall calls moved to another car after assignment
+    private final AtomicLongArray hallCallNanos; // Per floor and direction: earliest unserved call
+
+    public ElevatorMetrics(int numberOfFloors) {
+        this(numberOfFloors, new LatencyHistogram(), new LatencyHistogram(), new LatencyHistogram(), new AtomicLong());
+    }
+
+    private ElevatorMetrics(int numberOfFloors, LatencyHistogram waitTimes, LatencyHistogram rideTimes,
+                            LatencyHistogram dispatchLatencies, AtomicLong reassignedHallCalls) {
+        this.waitTimes = waitTimes;
+        this.rideTimes = rideTimes;
+        this.dispatchLatencies = dispatchLatencies;
+        this.reassignedHallCalls = reassignedHallCalls;
+        this.hallCallNanos = new AtomicLongArray(numberOfFloors * 2);
+        for (int i = 0; i < hallCallNanos.length(); i++) {
+            hallCallNanos.set(i, NO_CALL);
+        }
+    }
+
+    /**
+     * Starts the wait clock for a hall call; later calls for a floor and direction already waiting are ignored
+     */
+    public void recordHallCall(int floor, Direction direction, long timestampNanos) {
+        if (floor < 0 || floor * 2 >= hallCallNanos.length()) {
+            return;
+        }
+        hallCallNanos.compareAndSet(slot(floor, direction), NO_CALL, timestampNanos);
+    }
+
+    /**
+     * A car leaving a floor has served the call for the direction it departs in, or both if
+     * it goes idle or turns around (served IDLE), as the hall panel does; the wait ends when
+     * its doors opened there (zero for a call made while they were open). The other call keeps waiting.
+     */
+    public void recordStopServed(int floor, Direction served, long doorsOpenedNanos) {
+        if (floor < 0 || floor * 2 >= hallCallNanos.length()) {
+            return;
+        }
+        if (served == Direction.IDLE) {
+            recordWait(slot(floor, Direction.UP), doorsOpenedNanos);
+            recordWait(slot(floor, Direction.DOWN), doorsOpenedNanos);
+        } else {
+            recordWait(slot(floor, served), doorsOpenedNanos);
+        }
+    }
+
+    private void recordWait(int slot, long servedNanos) {
+        long calledAt = hallCallNanos.getAndSet(slot, NO_CALL);
+        if (calledAt != NO_CALL) {
+            waitTimes.record(Math.max(0, servedNanos - calledAt));
+        }
+    }
+
+    /**
+     * Metrics for another bank of the same building: the same histograms, but its
+     * own hall calls, so a car of one bank never serves another bank's call
+     */
+    public ElevatorMetrics forAnotherBank() {
+        return new ElevatorMetrics(hallCallNanos.length() / 2, waitTimes, rideTimes, dispatchLatencies,
+                reassignedHallCalls);
+    }
+
+    public void recordRide(long nanos) {
+        rideTimes.record(nanos);
+    }
+
+    public void recordDispatchLatency(long nanos) {
+        dispatchLatencies.record(nanos);
+    }
+
+    public void recordReassignment() {
+        reassignedHallCalls.incrementAndGet();
+    }
+
+    public long getReassignedHallCalls() {
+        return reassignedHallCalls.get();
+    }
+
+    public HistogramSnapshot getWaitTimes() {
+        return waitTimes.snapshot();
+    }
+
+    public HistogramSnapshot getRideTimes() {
+        return rideTimes.snapshot();
+    }
+
+    public HistogramSnapshot getDispatchLatencies() {
+        return dispatchLatencies.snapshot();
+    }
+
+    private static int slot(int floor, Direction direction) {
+        return floor * 2 + (direction == Direction.DOWN ? 1 : 0);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.metrics;
+
+/**
+ * Immutable copy of a LatencyHistogram at one instant
+ * Percentiles report the top of the bucket holding the value (never below the
+ * true value, at most 1% above), capped at the largest value recorded.
+ */
+public final class HistogramSnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long minNanos;
+    private final long maxNanos;
+    private final long totalNanos;
+
+    HistogramSnapshot(long[] counts, long count, long minNanos, long maxNanos, long totalNanos) {
+        this.counts = counts;
+        this.count = count;
+        this.minNanos = minNanos;
+        this.maxNanos = maxNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * @param percentile In [0, 100], e.g. 95 for p95
+     * @return Latency at or below which the given share of samples fall, or 0 if there are none
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        double clamped = Math.min(Math.max(percentile, 0), 100);
+        long rank = Math.max(1, (long) Math.ceil(clamped / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueAt(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return getValueAtPercentile(50);
+    }
+
+    public long getP95Nanos() {
+        return getValueAtPercentile(95);
+    }
+
+    public long getP99Nanos() {
+        return getValueAtPercentile(99);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMinNanos() {
+        return minNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count
+                + " mean=" + format(getMeanNanos())
+                + " p50=" + format(getP50Nanos())
+                + " p95=" + format(getP95Nanos())
+                + " p99=" + format(getP99Nanos())
+                + " max=" + format(maxNanos);
+    }
+
+    private static String format(double nanos) {
+        if (nanos >= 1e6) {
+            return String.format("%.1fms", nanos / 1e6);
+        }
+        return String.format("%.1fus", nanos / 1e3);
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory, lock-free latency histogram in the style of HdrHistogram
+ *
+ * Buckets are log-linear: each power of two is split into 128 linear
+ * sub-buckets, so any recorded value is reported within 1% of itself while
+ * the whole range from 1 ns to MAX_TRACKABLE_NANOS fits in under 5,000
+ * counters. Recording is one atomic increment plus the count, sum, min and
+ * max updates; it never allocates or locks. Longer values are clamped.
+ */
+public class LatencyHistogram {
+    public static final long MAX_TRACKABLE_NANOS = 2L * 60 * 60 * 1_000_000_000L; // Two hours
+
+    static final int SUB_BUCKET_BITS = 8;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Safe to call from any number of threads
+     * @param nanos Negative values count as 0, values above MAX_TRACKABLE_NANOS as MAX_TRACKABLE_NANOS
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_NANOS);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(value);
+        minNanos.accumulateAndGet(value, Math::min);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Copies the counters; values recorded during the copy may or may not be included
+     */
+    public HistogramSnapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long min = minNanos.get();
+        return new HistogramSnapshot(copy, count, count == 0 ? 0 : min, maxNanos.get(), totalNanos.get());
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Values below SUB_BUCKET_COUNT map one to one; above that, the bucket is the
+     * power of two and the sub-bucket the top SUB_BUCKET_BITS bits of the value
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (64 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift); // In [SUB_BUCKET_HALF, SUB_BUCKET_COUNT)
+        return (shift + 1) * SUB_BUCKET_HALF + (subBucket - SUB_BUCKET_HALF);
+    }
+
+    /**
+     * @return Largest value that maps to the given index
+     */
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long subBucket = index % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
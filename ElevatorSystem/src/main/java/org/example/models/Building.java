@@ -1,123 +1,510 @@
 package org.example.models;
 
+import org.example.clock.RealTimeClock;
+import org.example.clock.SimulationClock;
+import org.example.controller.ControllerThreadFactory;
+import org.example.controller.DestinationDispatcher;
 import org.example.controller.ElevatorController;
 import org.example.controller.ElevatorDispatcher;
+import org.example.controller.ElevatorRegistry;
+import org.example.controller.TickEngine;
 import org.example.enums.Direction;
+import org.example.enums.LogLevel;
+import org.example.enums.OverloadPolicy;
+import org.example.enums.RequestPriority;
 import org.example.enums.RequestType;
+import org.example.enums.ThreadMode;
+import org.example.logging.EventLog;
+import org.example.metrics.ElevatorMetrics;
+import org.example.metrics.HistogramSnapshot;
+import org.example.observer.ElevatorEventBus;
+import org.example.observer.ElevatorEventListener;
 import org.example.strategy.ElevatorSelectionStrategy;
 import org.example.strategy.NearestElevatorStrategy;
+import org.example.strategy.ParkingPolicy;
+import org.example.strategy.StopSchedulingPolicy;
+import org.example.trace.TraceJournal;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents the building with multiple floors and elevators
  * Facade Pattern: Provides simplified interface to the elevator system
  * Composition: Building HAS-A floors and elevators
+ * Zoning: with ElevatorZones the cars form separate banks, each with its own
+ * dispatcher thread, request queue and strategy; hall calls are routed by floor
+ * Destination dispatch: requestTrip assigns a car on the caller's thread and
+ * returns it, grouping passengers bound for the same or nearby floors
  */
 public class Building {
+    private static final int EVENT_BUS_CAPACITY = 4096;
+
     private final String name;
     private final List<Floor> floors;
     private final List<Elevator> elevators;
     private final List<ElevatorController> elevatorControllers;
-    private final ElevatorDispatcher dispatcher;
+    private final ElevatorRegistry registry; // Every car of every bank, for lookups by id
+    private final List<ElevatorBank> banks; // One per zone, or a single bank serving every floor
+    private final ElevatorBank[] bankByElevatorId;
+    private final List<ElevatorZone> zones;
+    private final List<TickEngine> tickEngines;
+    private final SimulationClock clock;
+    private final ControllerThreadFactory threadFactory;
+    private final Path traceFile;
+    private final TraceJournal journal; // Optional request trace
+    private final ElevatorEventBus eventBus; // Null without listeners
+    private final ElevatorMetrics metrics;
+    private final ParkingPolicy parkingPolicy; // Optional: where idle cars wait
     private final List<Thread> controllerThreads;
-    private Thread dispatcherThread;
 
     private Building(Builder builder) {
         this.name = builder.name;
         this.floors = builder.floors;
-        this.elevators = builder.elevators;
+        this.clock = builder.clock != null ? builder.clock : new RealTimeClock();
+        this.threadFactory = new ControllerThreadFactory(builder.threadMode);
+        this.elevators = new ArrayList<>();
         this.elevatorControllers = new ArrayList<>();
+        this.banks = new ArrayList<>();
+        this.tickEngines = new ArrayList<>();
         this.controllerThreads = new ArrayList<>();
+        this.metrics = new ElevatorMetrics(floors.size());
+        this.traceFile = builder.traceFile;
+        this.journal = traceFile != null ? openJournal(builder) : null;
+
+        // Without zones the whole building is one bank of identical cars
+        this.zones = Collections.unmodifiableList(new ArrayList<>(builder.zones));
+        List<ElevatorZone> bankZones = zones.isEmpty()
+                ? Collections.singletonList(new ElevatorZone.Builder()
+                        .name(name)
+                        .floors(0, floors.size() - 1)
+                        .elevators(builder.numberOfElevators, builder.elevatorCapacity)
+                        .build())
+                : zones;
+        for (ElevatorZone zone : bankZones) {
+            banks.add(createBank(builder, zone, bankZones));
+        }
 
-        // Initialize elevator controllers
+        this.registry = new ElevatorRegistry(elevatorControllers);
+        this.bankByElevatorId = new ElevatorBank[elevators.size() + 1];
+        for (ElevatorBank bank : banks) {
+            for (ElevatorController controller : bank.getControllers()) {
+                bankByElevatorId[controller.getElevator().getId()] = bank;
+            }
+        }
+
+        this.parkingPolicy = builder.parkingPolicy;
+        if (parkingPolicy != null) {
+            for (ElevatorController controller : elevatorControllers) {
+                controller.setParkingPolicy(parkingPolicy, registry);
+            }
+        }
+
+        // Optionally step the cars from a few tick-engine threads, round-robin
+        int engineCount = Math.min(builder.tickEngineThreads, elevatorControllers.size());
+        for (int e = 0; e < engineCount; e++) {
+            List<ElevatorController> group = new ArrayList<>();
+            for (int i = e; i < elevatorControllers.size(); i += engineCount) {
+                group.add(elevatorControllers.get(i));
+            }
+            tickEngines.add(new TickEngine(group, clock, builder.tickMillis));
+        }
+
+        // Cars publish moves, door and state changes; listeners consume them on their own threads
+        this.eventBus = builder.eventListeners.isEmpty()
+                ? null : new ElevatorEventBus(EVENT_BUS_CAPACITY, builder.eventListeners);
         for (Elevator elevator : elevators) {
-            ElevatorController controller = new ElevatorController(elevator);
+            elevator.setEventBus(eventBus);
+        }
+    }
+
+    /**
+     * Creates the zone's cars (ids continue across zones), its dispatcher and its
+     * hall buttons; a floor served by several banks gets a separate panel per bank
+     */
+    private ElevatorBank createBank(Builder builder, ElevatorZone zone, List<ElevatorZone> allZones) {
+        ElevatorMetrics bankMetrics = banks.isEmpty() ? metrics : metrics.forAnotherBank();
+        List<ElevatorController> controllers = new ArrayList<>();
+        FloorSet servedFloors = zone.servedFloors(floors.size());
+        for (int i = 0; i < zone.getNumberOfElevators(); i++) {
+            int id = elevators.size() + 1;
+            Elevator elevator = new Elevator(id, zone.getCapacity(), floors.size(), clock);
+            elevator.setBypassLoadFactor(builder.bypassLoadFactor);
+            elevator.setShaftRange(servedFloors.first(), servedFloors.last());
+            StopSchedulingPolicy scheduling = builder.stopSchedulingByElevator.getOrDefault(id, builder.stopScheduling);
+            if (scheduling != null) {
+                elevator.setStopSchedulingPolicy(scheduling);
+            }
+            ElevatorController controller = new ElevatorController(elevator, clock, bankMetrics);
+            elevators.add(elevator);
             elevatorControllers.add(controller);
+            controllers.add(controller);
         }
+        ElevatorRegistry bankRegistry = new ElevatorRegistry(controllers);
 
         // Initialize dispatcher with strategy
-        ElevatorSelectionStrategy strategy = builder.selectionStrategy != null ? 
-                builder.selectionStrategy : new NearestElevatorStrategy();
-        this.dispatcher = new ElevatorDispatcher(elevatorControllers, strategy);
+        ElevatorSelectionStrategy strategy = zone.getSelectionStrategy() != null ? zone.getSelectionStrategy()
+                : builder.selectionStrategy != null ? builder.selectionStrategy : new NearestElevatorStrategy();
+        ElevatorDispatcher.Builder dispatcherBuilder = new ElevatorDispatcher.Builder()
+                .registry(bankRegistry)
+                .selectionStrategy(strategy)
+                .clock(clock)
+                .requestQueue(builder.requestQueueCapacity, builder.overloadPolicy)
+                .journal(journal)
+                .metrics(bankMetrics);
+        if (builder.batchDispatch) {
+            dispatcherBuilder.batchDispatch(builder.batchWindowMillis);
+        }
+        if (builder.reallocationIntervalMillis > 0) {
+            dispatcherBuilder.reallocation(builder.reallocationIntervalMillis, builder.reallocationHysteresis);
+        }
+        ElevatorDispatcher dispatcher = dispatcherBuilder.build();
+
+        HallPanel[] hallPanels = new HallPanel[floors.size()];
+        for (int floor = 0; floor < floors.size(); floor++) {
+            if (!zone.serves(floor)) {
+                continue;
+            }
+            int sharing = 0;
+            for (ElevatorZone other : allZones) {
+                if (other.serves(floor)) {
+                    sharing++;
+                }
+            }
+            hallPanels[floor] = sharing == 1 ? floors.get(floor).getHallPanel() : new HallPanel(floor);
+        }
+
+        ElevatorBank bank = new ElevatorBank(zone.getName(), servedFloors, controllers,
+                bankRegistry, dispatcher, new DestinationDispatcher(bankRegistry, clock, bankMetrics), hallPanels);
+        for (ElevatorController controller : controllers) {
+            Elevator elevator = controller.getElevator();
+
+            // A car leaving a floor has served the hall call for its direction there, or both if it goes idle
+            // or turns around. The other call goes back to the dispatcher unless another car is stopping there.
+            elevator.setStopListener((car, floorNumber, served) -> {
+                controller.onStopServed(floorNumber, served); // Times the call it served
+                HallPanel hallPanel = bank.getHallPanel(floorNumber);
+                if (hallPanel == null) {
+                    return;
+                }
+                if (served == Direction.IDLE) {
+                    hallPanel.clearUpButton();
+                    hallPanel.clearDownButton();
+                    return;
+                }
+                hallPanel.clearButton(served);
+                Direction opposite = served == Direction.UP ? Direction.DOWN : Direction.UP;
+                if (hallPanel.isButtonPressed(opposite) && !bank.isStoppingAt(floorNumber, car)) {
+                    resubmitHallCall(dispatcher, hallPanel, floorNumber, opposite);
+                }
+            });
+
+            // A full car passed a hall call: whatever is still lit there goes back to the bank's dispatcher
+            elevator.setBypassListener((car, floorNumber) -> {
+                HallPanel hallPanel = bank.getHallPanel(floorNumber);
+                if (hallPanel == null) {
+                    return;
+                }
+                if (hallPanel.isUpButtonPressed()) {
+                    resubmitHallCall(dispatcher, hallPanel, floorNumber, Direction.UP);
+                }
+                if (hallPanel.isDownButtonPressed()) {
+                    resubmitHallCall(dispatcher, hallPanel, floorNumber, Direction.DOWN);
+                }
+            });
+        }
+        return bank;
+    }
+
+    // A lit button coalesces every later press, so a call the dispatcher refuses must not stay lit
+    private static void resubmitHallCall(ElevatorDispatcher dispatcher, HallPanel hallPanel, int floorNumber,
+                                         Direction direction) {
+        if (!dispatcher.submitHallCall(floorNumber, direction)) {
+            hallPanel.clearButton(direction); // Rejected under overload: let the passenger press again
+        }
     }
 
     public void start() {
-        System.out.println("=== Starting " + name + " Elevator System ===");
-        System.out.println("Floors: " + floors.size());
-        System.out.println("Elevators: " + elevators.size());
-        System.out.println();
+        EventLog.log(LogLevel.INFO, "=== Starting {} Elevator System ===", name);
+        EventLog.log(LogLevel.INFO, "Floors: {}, Elevators: {}", floors.size(), elevators.size());
+        EventLog.log(LogLevel.INFO, "Threads: {}", threadFactory.getMode());
 
-        // Start dispatcher thread
-        dispatcherThread = new Thread(dispatcher, "Dispatcher-Thread");
-        dispatcherThread.start();
+        if (eventBus != null) {
+            eventBus.start();
+        }
 
-        // Start elevator controller threads
+        // Start one dispatcher thread per bank
+        for (ElevatorBank bank : banks) {
+            String threadName = zones.isEmpty() ? "Dispatcher-Thread" : "Dispatcher-" + bank.getName();
+            Thread thread = threadFactory.newThread(clock.bind(bank.getDispatcher()), threadName);
+            bank.setDispatcherThread(thread);
+            thread.start();
+        }
+
+        // Start either the tick engines or one thread per elevator controller
+        if (!tickEngines.isEmpty()) {
+            for (int i = 0; i < tickEngines.size(); i++) {
+                Thread thread = threadFactory.newThread(clock.bind(tickEngines.get(i)), "Tick-Engine-" + i);
+                controllerThreads.add(thread);
+                thread.start();
+            }
+            return;
+        }
         for (int i = 0; i < elevatorControllers.size(); i++) {
-            Thread thread = new Thread(elevatorControllers.get(i), "Elevator-Controller-" + i);
+            Thread thread = threadFactory.newThread(clock.bind(elevatorControllers.get(i)),
+                    "Elevator-Controller-" + i);
             controllerThreads.add(thread);
             thread.start();
         }
     }
 
     public void stop() {
-        System.out.println("\n=== Stopping " + name + " Elevator System ===");
+        EventLog.log(LogLevel.INFO, "=== Stopping {} Elevator System ===", name);
         
-        dispatcher.stop();
+        for (ElevatorBank bank : banks) {
+            bank.getDispatcher().stop();
+        }
         for (ElevatorController controller : elevatorControllers) {
             controller.stop();
         }
+        for (TickEngine engine : tickEngines) {
+            engine.stop();
+        }
 
         // Interrupt threads
-        if (dispatcherThread != null) {
-            dispatcherThread.interrupt();
+        for (ElevatorBank bank : banks) {
+            if (bank.getDispatcherThread() != null) {
+                bank.getDispatcherThread().interrupt();
+            }
         }
         for (Thread thread : controllerThreads) {
             thread.interrupt();
         }
+
+        if (journal != null) {
+            journal.close();
+            EventLog.log(LogLevel.INFO, "Trace written to {}", traceFile);
+            if (journal.getDroppedRecords() > 0) {
+                EventLog.log(LogLevel.WARN, "{} trace records dropped", journal.getDroppedRecords());
+            }
+        }
+        if (eventBus != null) {
+            eventBus.stop();
+            if (eventBus.getMissedEvents() > 0 || eventBus.getDroppedEvents() > 0) {
+                EventLog.log(LogLevel.WARN, "Event listeners missed {} events, {} dropped",
+                        eventBus.getMissedEvents(), eventBus.getDroppedEvents());
+            }
+        }
+        EventLog.flush();
+    }
+
+    // A zoned building is journaled as one bank of its largest cars, which is how TraceReplay replays it
+    private TraceJournal openJournal(Builder builder) {
+        int numberOfElevators = builder.numberOfElevators;
+        int capacity = builder.elevatorCapacity;
+        for (ElevatorZone zone : builder.zones) {
+            numberOfElevators += zone.getNumberOfElevators();
+            capacity = Math.max(capacity, zone.getCapacity());
+        }
+        try {
+            return new TraceJournal(builder.traceFile, floors.size(), numberOfElevators, capacity, clock.nanoTime());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open trace file " + builder.traceFile, e);
+        }
     }
 
     /**
      * User presses UP button on a floor
+     * In a zoned building the call goes to the first zone that serves the floor
+     * and some floor above it; at a lobby shared by several zones use
+     * requestElevator(floor, destinationFloor) to reach a particular one.
      */
     public void requestElevatorUp(int floorNumber) {
-        if (!isValidFloor(floorNumber)) {
-            System.out.println("Invalid floor: " + floorNumber);
+        requestElevator(floorNumber, Direction.UP);
+    }
+
+    /**
+     * User presses DOWN button on a floor; routed to a zone like requestElevatorUp
+     */
+    public void requestElevatorDown(int floorNumber) {
+        requestElevator(floorNumber, Direction.DOWN);
+    }
+
+    /**
+     * Hall call of a service class other than NORMAL, e.g. an accessibility button or a
+     * fire-service key switch. It lights the hall button but is submitted even when a call
+     * is already waiting there, so its priority is not lost to coalescing.
+     */
+    public void requestElevatorUp(int floorNumber, RequestPriority priority) {
+        requestElevator(floorNumber, Direction.UP, priority);
+    }
+
+    /**
+     * DOWN counterpart of requestElevatorUp(floorNumber, priority)
+     */
+    public void requestElevatorDown(int floorNumber, RequestPriority priority) {
+        requestElevator(floorNumber, Direction.DOWN, priority);
+    }
+
+    /**
+     * Hall call from a passenger whose destination is known, e.g. one picking a bank at a shared lobby.
+     * Goes to a zone serving both floors; if none does, to the zone that takes the passenger
+     * to the transfer floor (such as a sky lobby) nearest their destination.
+     */
+    public void requestElevator(int floorNumber, int destinationFloor) {
+        if (!isValidFloor(floorNumber) || !isValidFloor(destinationFloor) || floorNumber == destinationFloor) {
+            EventLog.log(LogLevel.WARN, "Invalid trip: floor {} to {}", floorNumber, destinationFloor);
             return;
         }
+        ElevatorBank bank = bankForTrip(floorNumber, destinationFloor);
+        if (bank == null) {
+            EventLog.log(LogLevel.WARN, "No zone connects floor {} to {}", floorNumber, destinationFloor);
+            return;
+        }
+        int legDestination = legDestination(bank, floorNumber, destinationFloor);
+        callElevator(bank, floorNumber, legDestination > floorNumber ? Direction.UP : Direction.DOWN,
+                RequestPriority.NORMAL);
+    }
 
-        Floor floor = floors.get(floorNumber);
-        floor.getHallPanel().pressUpButton();
-
-        Request request = new Request.Builder()
-                .sourceFloor(floorNumber)
-                .direction(Direction.UP)
-                .requestType(RequestType.HALL_REQUEST)
-                .build();
+    /**
+     * Destination dispatch: the passenger enters both floors at a hall terminal and is told
+     * which car to take. The car is chosen on the calling thread, grouping trips bound for
+     * the same or nearby floors, and sent to the pickup floor; the passenger boards that car
+     * with boardElevator. Zones are chosen as in requestElevator(floor, destinationFloor),
+     * and a trip needing a transfer is assigned as far as the transfer floor.
+     * @return Id of the assigned car, or DestinationDispatcher.NO_ELEVATOR if the trip is
+     *         invalid or no car can take it
+     */
+    public int requestTrip(int sourceFloor, int destinationFloor) {
+        if (!isValidFloor(sourceFloor) || !isValidFloor(destinationFloor) || sourceFloor == destinationFloor) {
+            EventLog.log(LogLevel.WARN, "Invalid trip: floor {} to {}", sourceFloor, destinationFloor);
+            return DestinationDispatcher.NO_ELEVATOR;
+        }
+        ElevatorBank bank = bankForTrip(sourceFloor, destinationFloor);
+        if (bank == null) {
+            EventLog.log(LogLevel.WARN, "No zone connects floor {} to {}", sourceFloor, destinationFloor);
+            return DestinationDispatcher.NO_ELEVATOR;
+        }
 
-        dispatcher.submitRequest(request);
+        int legDestination = legDestination(bank, sourceFloor, destinationFloor);
+        Direction direction = legDestination > sourceFloor ? Direction.UP : Direction.DOWN;
+        if (journal != null) {
+            journal.recordHallCall(sourceFloor, direction, clock.nanoTime());
+        }
+        if (parkingPolicy != null) {
+            parkingPolicy.recordHallCall(sourceFloor, direction, clock.timeOfDayMillis());
+        }
+        return bank.getDestinationDispatcher().assignTrip(sourceFloor, legDestination);
     }
 
     /**
-     * User presses DOWN button on a floor
+     * @return A bank serving both floors, else the one reaching the transfer floor nearest
+     *         the destination, or null if no bank connects them
      */
-    public void requestElevatorDown(int floorNumber) {
+    private ElevatorBank bankForTrip(int floorNumber, int destinationFloor) {
+        for (ElevatorBank bank : banks) {
+            if (bank.serves(floorNumber) && bank.serves(destinationFloor)) {
+                return bank;
+            }
+        }
+
+        ElevatorBank bestBank = null;
+        int bestTransfer = FloorSet.NONE;
+        for (ElevatorBank bank : banks) {
+            if (!bank.serves(floorNumber)) {
+                continue;
+            }
+            int transfer = bank.nearestTransferFloor(floorNumber, destinationFloor, banks);
+            if (transfer != FloorSet.NONE && (bestTransfer == FloorSet.NONE
+                    || Math.abs(transfer - destinationFloor) < Math.abs(bestTransfer - destinationFloor))) {
+                bestBank = bank;
+                bestTransfer = transfer;
+            }
+        }
+        return bestBank;
+    }
+
+    // Where the bank takes the passenger: the destination itself, or the transfer floor nearest it
+    private int legDestination(ElevatorBank bank, int floorNumber, int destinationFloor) {
+        return bank.serves(destinationFloor)
+                ? destinationFloor : bank.nearestTransferFloor(floorNumber, destinationFloor, banks);
+    }
+
+    private void requestElevator(int floorNumber, Direction direction) {
+        requestElevator(floorNumber, direction, RequestPriority.NORMAL);
+    }
+
+    private void requestElevator(int floorNumber, Direction direction, RequestPriority priority) {
         if (!isValidFloor(floorNumber)) {
-            System.out.println("Invalid floor: " + floorNumber);
+            EventLog.log(LogLevel.WARN, "Invalid floor: {}", floorNumber);
+            return;
+        }
+        ElevatorBank bank = bankFor(floorNumber, direction);
+        if (bank == null) {
+            EventLog.log(LogLevel.WARN, "No zone serves floor {} going {}", floorNumber, direction);
             return;
         }
+        callElevator(bank, floorNumber, direction, priority);
+    }
 
-        Floor floor = floors.get(floorNumber);
-        floor.getHallPanel().pressDownButton();
+    private void callElevator(ElevatorBank bank, int floorNumber, Direction direction, RequestPriority priority) {
+        if (journal != null) {
+            journal.recordHallCall(floorNumber, direction, clock.nanoTime());
+        }
 
-        Request request = new Request.Builder()
-                .sourceFloor(floorNumber)
-                .direction(Direction.DOWN)
-                .requestType(RequestType.HALL_REQUEST)
-                .build();
+        HallPanel hallPanel = bank.getHallPanel(floorNumber);
+        boolean lit = direction == Direction.UP ? hallPanel.pressUpButton() : hallPanel.pressDownButton();
+        if (!lit && priority == RequestPriority.NORMAL) {
+            return; // Coalesced: a call this way is already outstanding on this floor
+        }
+        if (parkingPolicy != null) {
+            parkingPolicy.recordHallCall(floorNumber, direction, clock.timeOfDayMillis());
+        }
+
+        if (!bank.getDispatcher().submitHallCall(floorNumber, direction, priority) && lit) {
+            hallPanel.clearButton(direction); // Rejected under overload: let the passenger press again
+        }
+    }
 
-        dispatcher.submitRequest(request);
+    /**
+     * @return The first bank that stops at the floor and travels on from it in the given direction;
+     *         an unzoned building's single bank takes every call
+     */
+    private ElevatorBank bankFor(int floorNumber, Direction direction) {
+        if (zones.isEmpty()) {
+            return banks.get(0);
+        }
+        for (ElevatorBank bank : banks) {
+            if (bank.servesFrom(floorNumber, direction)) {
+                return bank;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A passenger steps into a car and presses their floor; the car counts them until they alight there
+     * @return false if the car is full and the passenger stays in the hall
+     */
+    public boolean boardElevator(int elevatorId, int destinationFloor) {
+        Elevator elevator = registry.getElevator(elevatorId);
+        if (elevator == null || !isValidFloor(destinationFloor) || !bankByElevatorId[elevatorId].serves(destinationFloor)) {
+            EventLog.log(LogLevel.WARN, "Cannot board elevator {} for floor {}", elevatorId, destinationFloor);
+            return false;
+        }
+        int floor = elevator.getCurrentFloor();
+        if (!elevator.boardPassenger(destinationFloor)) {
+            return false;
+        }
+        bankByElevatorId[elevatorId].getDestinationDispatcher().tripBoarded(elevatorId, floor, destinationFloor);
+        selectFloorInElevator(elevatorId, destinationFloor);
+        return true;
     }
 
     /**
@@ -125,46 +512,90 @@ public class Building {
      */
     public void selectFloorInElevator(int elevatorId, int destinationFloor) {
         if (!isValidFloor(destinationFloor)) {
-            System.out.println("Invalid floor: " + destinationFloor);
+            EventLog.log(LogLevel.WARN, "Invalid floor: {}", destinationFloor);
             return;
         }
 
-        Elevator elevator = getElevatorById(elevatorId);
-        if (elevator == null) {
-            System.out.println("Invalid elevator ID: " + elevatorId);
+        ElevatorController controller = registry.getController(elevatorId);
+        if (controller == null) {
+            EventLog.log(LogLevel.WARN, "Invalid elevator ID: {}", elevatorId);
+            return;
+        }
+        if (!bankByElevatorId[elevatorId].serves(destinationFloor)) {
+            EventLog.log(LogLevel.WARN, "Elevator {} does not serve floor {}", elevatorId, destinationFloor);
             return;
         }
+        Elevator elevator = controller.getElevator();
 
         int currentFloor = elevator.getCurrentFloor();
         Direction direction = destinationFloor > currentFloor ? Direction.UP : Direction.DOWN;
+        if (journal != null) {
+            journal.recordCarCall(elevatorId, currentFloor, destinationFloor, clock.nanoTime());
+        }
 
         Request request = new Request.Builder()
                 .sourceFloor(currentFloor)
                 .destinationFloor(destinationFloor)
                 .direction(direction)
                 .requestType(RequestType.ELEVATOR_REQUEST)
+                .timestampNanos(clock.nanoTime())
                 .build();
 
-        // Find the controller for this elevator and handle request directly
-        for (ElevatorController controller : elevatorControllers) {
-            if (controller.getElevator().getId() == elevatorId) {
-                controller.handleRequest(request);
-                break;
-            }
+        // Hand the request straight to this elevator's controller
+        controller.handleRequest(request);
+    }
+
+    /**
+     * Submits a request straight to the dispatcher of the zone serving its source floor
+     * and direction, bypassing hall-button coalescing
+     * @return false if no zone serves it or the dispatcher rejected it under overload
+     */
+    public boolean submitRequest(Request request) {
+        ElevatorBank bank = bankFor(request.getSourceFloor(), request.getDirection());
+        if (bank == null) {
+            EventLog.log(LogLevel.WARN, "No zone serves {}", request);
+            return false;
         }
+        return bank.getDispatcher().submitRequest(request);
     }
 
     private boolean isValidFloor(int floorNumber) {
         return floorNumber >= 0 && floorNumber < floors.size();
     }
 
-    private Elevator getElevatorById(int elevatorId) {
-        for (Elevator elevator : elevators) {
-            if (elevator.getId() == elevatorId) {
-                return elevator;
-            }
-        }
-        return null;
+    /**
+     * @return The elevator with the given id, or null if there is none
+     */
+    public Elevator getElevatorById(int elevatorId) {
+        return registry.getElevator(elevatorId);
+    }
+
+    /**
+     * @return Distribution of how long hall calls waited for a car to open its doors on their floor
+     */
+    public HistogramSnapshot getWaitTimeSnapshot() {
+        return metrics.getWaitTimes();
+    }
+
+    /**
+     * @return Distribution of the time from a car call to the car opening at that destination
+     */
+    public HistogramSnapshot getRideTimeSnapshot() {
+        return metrics.getRideTimes();
+    }
+
+    /**
+     * @return Distribution of the real time the dispatcher spent per selection decision
+     */
+    public HistogramSnapshot getDispatchLatencySnapshot() {
+        return metrics.getDispatchLatencies();
+    }
+
+    /**
+     * @return How many hall calls the dispatchers moved to another car after assigning them
+     */
+    public long getReassignedHallCalls() {
+        return metrics.getReassignedHallCalls();
     }
 
     public String getName() {
@@ -179,6 +610,27 @@ public class Building {
         return new ArrayList<>(elevators);
     }
 
+    public SimulationClock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return The zones the building was built with; empty for a single unzoned bank
+     */
+    public List<ElevatorZone> getZones() {
+        return zones;
+    }
+
+    /**
+     * @return Name of the zone whose bank the car belongs to (the building's name when unzoned), or null
+     */
+    public String getZoneName(int elevatorId) {
+        if (elevatorId <= 0 || elevatorId >= bankByElevatorId.length) {
+            return null;
+        }
+        return bankByElevatorId[elevatorId].getName();
+    }
+
     /**
      * Builder Pattern for flexible Building construction
      * Follows SOLID principles and provides clean API
@@ -186,8 +638,26 @@ public class Building {
     public static class Builder {
         private String name;
         private List<Floor> floors;
-        private List<Elevator> elevators;
+        private int numberOfElevators;
+        private int elevatorCapacity;
         private ElevatorSelectionStrategy selectionStrategy;
+        private SimulationClock clock;
+        private ThreadMode threadMode = ThreadMode.PLATFORM;
+        private int tickEngineThreads;
+        private long tickMillis;
+        private boolean batchDispatch;
+        private long batchWindowMillis;
+        private long reallocationIntervalMillis;
+        private double reallocationHysteresis;
+        private int requestQueueCapacity = 1024;
+        private OverloadPolicy overloadPolicy = OverloadPolicy.BLOCK;
+        private Path traceFile;
+        private ParkingPolicy parkingPolicy;
+        private double bypassLoadFactor = Elevator.DEFAULT_BYPASS_LOAD_FACTOR;
+        private StopSchedulingPolicy stopScheduling; // Null keeps each car's default (LOOK)
+        private final Map<Integer, StopSchedulingPolicy> stopSchedulingByElevator = new HashMap<>();
+        private final List<ElevatorEventListener> eventListeners = new ArrayList<>();
+        private final List<ElevatorZone> zones = new ArrayList<>();
 
         public Builder name(String name) {
             this.name = name;
@@ -203,10 +673,8 @@ public class Building {
         }
 
         public Builder elevators(int numberOfElevators, int capacity) {
-            this.elevators = new ArrayList<>();
-            for (int i = 0; i < numberOfElevators; i++) {
-                elevators.add(new Elevator(i + 1, capacity));
-            }
+            this.numberOfElevators = numberOfElevators;
+            this.elevatorCapacity = capacity;
             return this;
         }
 
@@ -215,10 +683,168 @@ public class Building {
             return this;
         }
 
+        /**
+         * Clock driving door, travel and dwell times (defaults to real time)
+         */
+        public Builder clock(SimulationClock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Thread kind for controllers and the dispatcher;
+         * VIRTUAL lets one JVM host thousands of cars cheaply
+         */
+        public Builder threadMode(ThreadMode threadMode) {
+            this.threadMode = threadMode;
+            return this;
+        }
+
+        /**
+         * Drives all cars from a few event-loop threads instead of one thread per car
+         * @param engineThreads Number of tick-engine threads sharing the cars
+         * @param tickMillis Interval between state-machine steps
+         */
+        public Builder tickEngine(int engineThreads, long tickMillis) {
+            if (engineThreads <= 0 || tickMillis <= 0) {
+                throw new IllegalArgumentException("Tick engine requires positive threads and tick interval");
+            }
+            this.tickEngineThreads = engineThreads;
+            this.tickMillis = tickMillis;
+            return this;
+        }
+
+        /**
+         * Dispatches hall calls in batches collected over the given window,
+         * letting strategies such as HungarianBatchStrategy assign them jointly
+         */
+        public Builder batchDispatch(long windowMillis) {
+            if (windowMillis < 0) {
+                throw new IllegalArgumentException("Batch window cannot be negative");
+            }
+            this.batchDispatch = true;
+            this.batchWindowMillis = windowMillis;
+            return this;
+        }
+
+        /**
+         * Periodically re-scores hall calls that are assigned but still waiting and
+         * moves a call to a car that is better by more than the hysteresis fraction
+         */
+        public Builder reallocation(long intervalMillis, double hysteresis) {
+            if (intervalMillis <= 0) {
+                throw new IllegalArgumentException("Reallocation interval must be positive");
+            }
+            if (hysteresis < 0 || hysteresis >= 1) {
+                throw new IllegalArgumentException("Hysteresis must be in [0, 1): " + hysteresis);
+            }
+            this.reallocationIntervalMillis = intervalMillis;
+            this.reallocationHysteresis = hysteresis;
+            return this;
+        }
+
+        /**
+         * Bounds the dispatcher's request queue and sets what happens when it is full
+         */
+        public Builder requestQueue(int capacity, OverloadPolicy overloadPolicy) {
+            this.requestQueueCapacity = capacity;
+            this.overloadPolicy = overloadPolicy;
+            return this;
+        }
+
+        /**
+         * Journals every hall press, car call and direct dispatcher request to a
+         * binary trace file for TraceReplay; written in the background, closed by stop()
+         */
+        public Builder traceFile(Path traceFile) {
+            this.traceFile = traceFile;
+            return this;
+        }
+
+        /**
+         * Registers a listener for car moves, door and state changes. Each listener
+         * runs on its own event-bus thread, so a slow one never delays the cars.
+         */
+        public Builder eventListener(ElevatorEventListener listener) {
+            this.eventListeners.add(listener);
+            return this;
+        }
+
+        /**
+         * Lets idle cars reposition themselves, e.g. with a DemandPredictiveParkingPolicy;
+         * without one a car waits wherever it finished its last stop
+         */
+        public Builder parkingPolicy(ParkingPolicy parkingPolicy) {
+            this.parkingPolicy = parkingPolicy;
+            return this;
+        }
+
+        /**
+         * Share of capacity, in (0, 1], at which a car counts as full: it passes hall calls
+         * nobody aboard is getting off for, and selection strategies avoid it
+         */
+        public Builder bypassLoadFactor(double loadFactor) {
+            if (!(loadFactor > 0 && loadFactor <= 1)) {
+                throw new IllegalArgumentException("Bypass load factor must be in (0, 1]: " + loadFactor);
+            }
+            this.bypassLoadFactor = loadFactor;
+            return this;
+        }
+
+        /**
+         * Order in which every car serves its stops, e.g. ScanPolicy or ShortestSeekFirstPolicy; LOOK by default
+         */
+        public Builder stopScheduling(StopSchedulingPolicy policy) {
+            this.stopScheduling = policy;
+            return this;
+        }
+
+        /**
+         * Stop scheduling for one car (ids start at 1), overriding stopScheduling(policy)
+         */
+        public Builder stopScheduling(int elevatorId, StopSchedulingPolicy policy) {
+            this.stopSchedulingByElevator.put(elevatorId, policy);
+            return this;
+        }
+
+        /**
+         * Adds an elevator bank; use zones instead of elevators(...) for low-, mid-, high-rise and shuttle banks.
+         * Cars are numbered across zones in the order they are added.
+         */
+        public Builder zone(ElevatorZone zone) {
+            this.zones.add(zone);
+            return this;
+        }
+
         public Building build() {
-            if (name == null || floors == null || elevators == null) {
+            if (name == null || floors == null || (numberOfElevators <= 0 && zones.isEmpty())) {
                 throw new IllegalStateException("Building requires name, floors, and elevators");
             }
+            int totalElevators = numberOfElevators;
+            if (!zones.isEmpty()) {
+                if (numberOfElevators > 0) {
+                    throw new IllegalStateException("Configure either elevators(...) or zones, not both");
+                }
+                if (parkingPolicy != null) {
+                    throw new IllegalStateException("Parking policies are not supported in zoned buildings");
+                }
+                for (ElevatorZone zone : zones) {
+                    if (zone.getHighestFloor() >= floors.size()) {
+                        throw new IllegalStateException("Zone " + zone.getName() + " serves floors above the building");
+                    }
+                    for (int lobby : zone.getLobbyFloors()) {
+                        if (lobby >= floors.size()) {
+                            throw new IllegalStateException("Zone " + zone.getName() + " lobby above the building");
+                        }
+                    }
+                    totalElevators += zone.getNumberOfElevators();
+                }
+            }
+            for (int elevatorId : stopSchedulingByElevator.keySet()) {
+                if (elevatorId < 1 || elevatorId > totalElevators) {
+                    throw new IllegalStateException("Stop scheduling set for unknown elevator " + elevatorId);
+                }
+            }
             return new Building(this);
         }
     }
@@ -1,46 +1,102 @@
 package org.example.models;
 
+import org.example.clock.RealTimeClock;
+import org.example.clock.SimulationClock;
 import org.example.enums.DoorState;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
 
 /**
  * Represents elevator door with state management
  * Single Responsibility: Manages only door operations
  */
 public class Door {
+    public static final long TRANSITION_TIME_MS = 500;
+
+    private final SimulationClock clock;
     private DoorState state;
+    private long transitionRemainingMillis;
 
     public Door() {
+        this(new RealTimeClock());
+    }
+
+    public Door(SimulationClock clock) {
+        this.clock = clock;
         this.state = DoorState.CLOSED;
     }
 
     public void open() {
         if (state == DoorState.CLOSED) {
-            state = DoorState.OPENING;
-            System.out.println("Door is opening...");
+            beginOpening();
             // Simulate door opening time
             try {
-                Thread.sleep(500);
+                clock.sleep(TRANSITION_TIME_MS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
-            state = DoorState.OPEN;
-            System.out.println("Door is now OPEN");
+            tick(TRANSITION_TIME_MS);
         }
     }
 
     public void close() {
         if (state == DoorState.OPEN) {
-            state = DoorState.CLOSING;
-            System.out.println("Door is closing...");
+            beginClosing();
             // Simulate door closing time
             try {
-                Thread.sleep(500);
+                clock.sleep(TRANSITION_TIME_MS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
+            tick(TRANSITION_TIME_MS);
+        }
+    }
+
+    /**
+     * Non-blocking: starts opening, tick() completes the transition
+     */
+    public void beginOpening() {
+        if (state == DoorState.CLOSED) {
+            state = DoorState.OPENING;
+            transitionRemainingMillis = TRANSITION_TIME_MS;
+            EventLog.log(LogLevel.TRACE, "Door is opening...");
+        }
+    }
+
+    /**
+     * Non-blocking: starts closing, tick() completes the transition
+     */
+    public void beginClosing() {
+        if (state == DoorState.OPEN) {
+            state = DoorState.CLOSING;
+            transitionRemainingMillis = TRANSITION_TIME_MS;
+            EventLog.log(LogLevel.TRACE, "Door is closing...");
+        }
+    }
+
+    /**
+     * Advances an opening or closing transition by the elapsed time
+     * @return Elapsed time left over once the transition has completed
+     */
+    public long tick(long elapsedMillis) {
+        if (state != DoorState.OPENING && state != DoorState.CLOSING) {
+            return elapsedMillis;
+        }
+        if (elapsedMillis < transitionRemainingMillis) {
+            transitionRemainingMillis -= elapsedMillis;
+            return 0;
+        }
+
+        long leftover = elapsedMillis - transitionRemainingMillis;
+        transitionRemainingMillis = 0;
+        if (state == DoorState.OPENING) {
+            state = DoorState.OPEN;
+            EventLog.log(LogLevel.TRACE, "Door is now OPEN");
+        } else {
             state = DoorState.CLOSED;
-            System.out.println("Door is now CLOSED");
+            EventLog.log(LogLevel.TRACE, "Door is now CLOSED");
         }
+        return leftover;
     }
 
     public DoorState getState() {
@@ -1,142 +1,695 @@
 package org.example.models;
 
+import org.example.clock.RealTimeClock;
+import org.example.clock.SimulationClock;
 import org.example.enums.Direction;
+import org.example.enums.ElevatorEventType;
 import org.example.enums.ElevatorState;
+import org.example.enums.LogLevel;
+import org.example.jfr.CarMovementEvent;
+import org.example.jfr.DoorCycleEvent;
+import org.example.logging.EventLog;
+import org.example.observer.ArrivalListener;
+import org.example.observer.BypassListener;
+import org.example.observer.ElevatorEventBus;
+import org.example.observer.StopListener;
+import org.example.strategy.LookPolicy;
+import org.example.strategy.StopSchedulingPolicy;
 
-import java.util.TreeSet;
+import jdk.jfr.EventType;
 
 /**
  * Represents an elevator car
  * Composition: Elevator HAS-A Door and HAS-A ElevatorPanel
  * Encapsulates what changes: elevator state, position, and destinations
+ * Load: passengers board with a destination and alight when the doors open there;
+ * at or above the bypass load the car passes hall-call stops without opening,
+ * except destination-dispatch pickups, where a passenger was told to wait for it
+ * Stop order: a StopSchedulingPolicy (LOOK by default) picks the next target
  */
 public class Elevator {
+    public static final long FLOOR_TRAVEL_TIME_MS = 1000;
+    public static final long DWELL_TIME_MS = 2000;
+    public static final int DEFAULT_NUMBER_OF_FLOORS = 64;
+    public static final double DEFAULT_BYPASS_LOAD_FACTOR = 0.8;
+    private static final EventType MOVEMENT_EVENT = EventType.getEventType(CarMovementEvent.class);
+    private static final EventType DOOR_CYCLE_EVENT = EventType.getEventType(DoorCycleEvent.class);
+
     private final int id;
-    private int currentFloor;
-    private Direction currentDirection;
-    private ElevatorState state;
+    private final SimulationClock clock;
+    // Written under stateLock; every change publishes a new snapshot
+    private volatile int currentFloor;
+    private volatile Direction currentDirection;
+    private volatile ElevatorState state;
     private final Door door;
     private final ElevatorPanel panel;
     private final int capacity;
-    private int currentLoad;
+    private volatile int currentLoad;
+    private final int[] ridersByDestination; // Guarded by stateLock
+    private volatile int bypassLoad; // Passengers at which the car stops taking hall calls
+    private final Object stateLock = new Object();
+    private volatile ElevatorSnapshot snapshot;
+    private long snapshotVersion; // Guarded by stateLock
+    private volatile StopListener stopListener;
+    private volatile ArrivalListener arrivalListener;
+    private volatile BypassListener bypassListener;
+    private volatile StopSchedulingPolicy stopScheduling = new LookPolicy();
+    private long floorsTravelled; // Guarded by stateLock
+    private long stopsMade; // Door openings, guarded by stateLock
+    private volatile ElevatorEventBus eventBus; // Optional; events are published, never delivered inline
+    private volatile boolean stopServed; // Set once the current stop's hall calls are cleared
+    // Tick engine only: time left in the current floor-travel or dwell phase
+    private long phaseRemainingMillis;
+    // Tick engine only: JFR events spanning several ticks, null unless a recording enables them
+    private CarMovementEvent travelEvent;
+    private long travelStartMillis;
+    private DoorCycleEvent doorCycleEvent;
+    private long doorCycleStartMillis;
     
-    // Using TreeSet for automatic sorting of destination floors
-    private final TreeSet<Integer> upDestinations;
-    private final TreeSet<Integer> downDestinations;
+    // Atomic floor bitsets: the dispatcher adds and reads stops while the controller serves them
+    private final FloorSet upDestinations;
+    private final FloorSet downDestinations;
+    private final FloorSet tripPickups; // Queued stops promised to destination-dispatch passengers
+    private volatile int lowestFloor; // Ends of the shaft: the bank's served range
+    private volatile int highestFloor;
 
+    /**
+     * Car for floors 0 to DEFAULT_NUMBER_OF_FLOORS - 1; a stop above that is rejected.
+     * Use the numberOfFloors constructor for a taller building, as Building does.
+     */
     public Elevator(int id, int capacity) {
+        this(id, capacity, new RealTimeClock());
+    }
+
+    /**
+     * Car for floors 0 to DEFAULT_NUMBER_OF_FLOORS - 1; a stop above that is rejected.
+     * Use the numberOfFloors constructor for a taller building, as Building does.
+     */
+    public Elevator(int id, int capacity, SimulationClock clock) {
+        this(id, capacity, DEFAULT_NUMBER_OF_FLOORS, clock);
+    }
+
+    /**
+     * @param numberOfFloors Floors the car can serve, 0 to numberOfFloors - 1
+     */
+    public Elevator(int id, int capacity, int numberOfFloors, SimulationClock clock) {
+        if (numberOfFloors <= 0) {
+            throw new IllegalArgumentException("Elevator " + id + " needs at least one floor: " + numberOfFloors);
+        }
         this.id = id;
+        this.clock = clock;
         this.capacity = capacity;
         this.currentFloor = 0; // Start at ground floor
         this.currentDirection = Direction.IDLE;
         this.state = ElevatorState.IDLE;
-        this.door = new Door();
-        this.panel = new ElevatorPanel(id);
+        this.door = new Door(clock);
+        this.panel = new ElevatorPanel(id, numberOfFloors);
         this.currentLoad = 0;
-        this.upDestinations = new TreeSet<>();
-        this.downDestinations = new TreeSet<>();
+        this.ridersByDestination = new int[numberOfFloors];
+        this.bypassLoad = bypassLoadFor(DEFAULT_BYPASS_LOAD_FACTOR, capacity);
+        this.upDestinations = new FloorSet(numberOfFloors);
+        this.downDestinations = new FloorSet(numberOfFloors);
+        this.tripPickups = new FloorSet(numberOfFloors);
+        this.lowestFloor = 0;
+        this.highestFloor = numberOfFloors - 1;
+        synchronized (stateLock) {
+            publishSnapshot(true);
+        }
     }
 
-    public void addDestination(int floor) {
-        if (floor > currentFloor) {
-            upDestinations.add(floor);
-        } else if (floor < currentFloor) {
-            downDestinations.add(floor);
+    /**
+     * @return false if nothing was queued: the doors are already open on that floor, or the car is out of service
+     */
+    public boolean addDestination(int floor) {
+        if (!queueStop(floor)) {
+            return false;
         }
         panel.pressButton(floor);
+        return true;
+    }
+
+    /**
+     * Queues a stop for a hall call; unlike a car call it lights no panel button, so a full car may pass it
+     * @return false if nothing was queued: the doors are already open on that floor, or the car is out of service
+     */
+    public boolean addHallStop(int floor) {
+        return queueStop(floor);
+    }
+
+    /**
+     * Queues the pickup of a destination-dispatch trip. The passenger was told to take this
+     * car, so unlike a hall stop it is neither bypassed when the car is full nor withdrawn.
+     * @return false if nothing was queued: the doors are already open on that floor, or the car is out of service
+     */
+    public boolean addTripPickup(int floor) {
+        synchronized (stateLock) {
+            if (!queueStop(floor)) {
+                return false;
+            }
+            tripPickups.add(floor);
+            return true;
+        }
+    }
+
+    /**
+     * Sends an idle car to wait at a floor; unlike a car call it lights no panel button
+     * @return false if the car picked up work in the meantime, or cannot go there
+     */
+    public boolean parkAt(int floor) {
+        synchronized (stateLock) {
+            if (!upDestinations.isEmpty() || !downDestinations.isEmpty()) {
+                return false;
+            }
+            return queueStop(floor);
+        }
+    }
+
+    /**
+     * Drops a hall-call stop that was reassigned to another car
+     * @return false if it cannot be withdrawn: not queued, a passenger's car call, a trip pickup,
+     *         or the doors are open there
+     */
+    public boolean withdrawHallStop(int floor) {
+        synchronized (stateLock) {
+            if (!upDestinations.contains(floor) && !downDestinations.contains(floor)) {
+                return false;
+            }
+            if (panel.hasDestination(floor) || tripPickups.contains(floor)
+                    || (floor == currentFloor && state == ElevatorState.DOOR_OPEN)) {
+                return false;
+            }
+            upDestinations.remove(floor);
+            downDestinations.remove(floor);
+            publishSnapshot(true);
+            return true;
+        }
+    }
+
+    private boolean queueStop(int floor) {
+        checkFloor(floor);
+        synchronized (stateLock) {
+            if (floor > currentFloor) {
+                upDestinations.add(floor);
+            } else if (floor < currentFloor) {
+                downDestinations.add(floor);
+            } else if (state == ElevatorState.DOOR_OPEN) {
+                if (!stopServed) {
+                    return false; // Doors are open here and passengers can still board
+                }
+                // Doors already closing: come back to this floor
+                if (currentDirection == Direction.UP) {
+                    downDestinations.add(floor);
+                } else {
+                    upDestinations.add(floor);
+                }
+            } else if (state == ElevatorState.IDLE || state == ElevatorState.MOVING_DOWN) {
+                // Idle here: open the doors; moving down: serve it after turning around
+                upDestinations.add(floor);
+            } else if (state == ElevatorState.MOVING_UP) {
+                downDestinations.add(floor);
+            } else {
+                return false; // Out of service
+            }
+            publishSnapshot(true);
+            return true;
+        }
     }
 
     public void moveToFloor(int targetFloor) {
+        checkFloor(targetFloor);
         if (currentFloor == targetFloor) {
+            stopAtFloor(targetFloor);
             return;
         }
 
         if (targetFloor > currentFloor) {
-            currentDirection = Direction.UP;
-            state = ElevatorState.MOVING_UP;
+            updateMotion(Direction.UP, ElevatorState.MOVING_UP);
         } else {
-            currentDirection = Direction.DOWN;
-            state = ElevatorState.MOVING_DOWN;
+            updateMotion(Direction.DOWN, ElevatorState.MOVING_DOWN);
         }
 
-        System.out.println("Elevator " + id + " moving from floor " + currentFloor + " to floor " + targetFloor);
+        EventLog.log(LogLevel.INFO, "Elevator {} moving from floor {} to floor {}", id, currentFloor, targetFloor);
+        CarMovementEvent movement = MOVEMENT_EVENT.isEnabled() ? new CarMovementEvent() : null;
+        if (movement != null) {
+            movement.begin();
+        }
+        int startFloor = currentFloor;
+        long startMillis = clock.currentTimeMillis();
+        boolean targetIsStop = isQueued(targetFloor); // SCAN runs to the unqueued end of the shaft
 
         // Simulate movement
         while (currentFloor != targetFloor) {
             try {
-                Thread.sleep(1000); // Simulate time to move one floor
+                clock.sleep(FLOOR_TRAVEL_TIME_MS); // Simulate time to move one floor
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
 
-            if (currentDirection == Direction.UP) {
-                currentFloor++;
-            } else {
-                currentFloor--;
-            }
+            advanceOneFloor();
 
-            System.out.println("Elevator " + id + " at floor " + currentFloor);
+            EventLog.log(LogLevel.DEBUG, "Elevator {} at floor {}", id, currentFloor);
 
             // Check if we need to stop at this floor
             if (shouldStopAtFloor(currentFloor)) {
                 stopAtFloor(currentFloor);
             }
+            if (targetIsStop && currentFloor != targetFloor && !isQueued(targetFloor)) {
+                break; // Target stop withdrawn (reassigned to another car): plan again from here
+            }
+        }
+
+        if (movement == null) {
+            return;
+        }
+        movement.end();
+        if (movement.shouldCommit()) {
+            movement.elevatorId = id;
+            movement.fromFloor = startFloor;
+            movement.toFloor = currentFloor; // Short of the target if the leg ended early
+            movement.floorsTravelled = Math.abs(currentFloor - startFloor);
+            movement.travelMillis = clock.currentTimeMillis() - startMillis;
+            movement.commit();
         }
     }
 
     private boolean shouldStopAtFloor(int floor) {
-        if (currentDirection == Direction.UP && upDestinations.contains(floor)) {
-            return true;
+        boolean queued;
+        synchronized (stateLock) {
+            queued = stopScheduling.stopsWhilePassing(floor, currentDirection, upDestinations, downDestinations);
         }
-        if (currentDirection == Direction.DOWN && downDestinations.contains(floor)) {
-            return true;
+        if (!queued) {
+            return false;
+        }
+        if (currentLoad >= bypassLoad && !panel.hasDestination(floor) && !tripPickups.contains(floor)) {
+            bypass(floor);
+            return false;
+        }
+        return true;
+    }
+
+    // Full car at a hall-call stop nobody aboard is going to: drop it and let another car take the call
+    private void bypass(int floor) {
+        clearStop(floor);
+        EventLog.log(LogLevel.INFO, "Elevator {} full, bypassing floor {}", id, floor);
+        BypassListener listener = bypassListener;
+        if (listener != null) {
+            listener.onHallCallBypassed(this, floor);
         }
-        return false;
     }
 
     private void stopAtFloor(int floor) {
-        state = ElevatorState.DOOR_OPEN;
-        System.out.println("Elevator " + id + " stopping at floor " + floor);
+        DoorCycleEvent doorCycle = DOOR_CYCLE_EVENT.isEnabled() ? new DoorCycleEvent() : null;
+        if (doorCycle != null) {
+            doorCycle.begin();
+        }
+        long startMillis = clock.currentTimeMillis();
+        synchronized (stateLock) {
+            state = ElevatorState.DOOR_OPEN;
+            stopServed = false;
+            publishSnapshot(false);
+        }
+        EventLog.log(LogLevel.INFO, "Elevator {} stopping at floor {}", id, floor);
         
         door.open();
+        doorsOpened(floor);
         
         // Remove this floor from destinations
-        upDestinations.remove(floor);
-        downDestinations.remove(floor);
+        clearStop(floor);
         panel.clearButton(floor);
         
         // Simulate passenger boarding/alighting
         try {
-            Thread.sleep(2000);
+            clock.sleep(DWELL_TIME_MS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
         
+        notifyStopServed(floor);
         door.close();
+        publishEvent(ElevatorEventType.DOOR_CLOSED, floor, floor);
+
+        if (doorCycle == null) {
+            return;
+        }
+        doorCycle.end();
+        if (doorCycle.shouldCommit()) {
+            doorCycle.elevatorId = id;
+            doorCycle.floor = floor;
+            doorCycle.dwellMillis = clock.currentTimeMillis() - startMillis;
+            doorCycle.commit();
+        }
     }
 
-    public Integer getNextDestination() {
-        if (currentDirection == Direction.UP && !upDestinations.isEmpty()) {
-            return upDestinations.first();
-        } else if (currentDirection == Direction.DOWN && !downDestinations.isEmpty()) {
-            return downDestinations.last();
-        } else if (!upDestinations.isEmpty()) {
-            currentDirection = Direction.UP;
-            return upDestinations.first();
-        } else if (!downDestinations.isEmpty()) {
-            currentDirection = Direction.DOWN;
-            return downDestinations.last();
+    private void doorsOpened(int floor) {
+        alightPassengers(floor);
+        ArrivalListener listener = arrivalListener;
+        if (listener != null) {
+            listener.onDoorsOpened(this, floor);
+        }
+        publishEvent(ElevatorEventType.DOOR_OPENED, floor, floor);
+    }
+
+    private void alightPassengers(int floor) {
+        synchronized (stateLock) {
+            stopsMade++;
+            int alighting = ridersByDestination[floor];
+            if (alighting == 0) {
+                return;
+            }
+            ridersByDestination[floor] = 0;
+            currentLoad = Math.max(0, currentLoad - alighting);
+            publishSnapshot(false);
+        }
+    }
+
+    private void notifyStopServed(int floor) {
+        stopServed = true;
+        StopListener listener = stopListener;
+        if (listener != null) {
+            listener.onStopServed(this, floor, servedDirection());
+        }
+    }
+
+    // The way the policy will take the car from here with the stops queued so far. A car turning
+    // around here arrived showing the other way to whoever boarded, so it served both calls.
+    private Direction servedDirection() {
+        synchronized (stateLock) {
+            if (upDestinations.isEmpty() && downDestinations.isEmpty()) {
+                return Direction.IDLE;
+            }
+            int next = stopScheduling.nextTarget(currentFloor, currentDirection, upDestinations, downDestinations,
+                    lowestFloor, highestFloor);
+            if (next == FloorSet.NONE) {
+                return Direction.IDLE;
+            }
+            Direction departing = directionTowards(next);
+            return departing == currentDirection ? departing : Direction.IDLE;
+        }
+    }
+
+    /**
+     * Non-blocking alternative to moveToFloor/stopAtFloor used by the tick engine.
+     * Advances the car through travel (MOVING_UP/DOWN), door (DOOR_OPEN with the
+     * door OPENING, OPEN for dwell, CLOSING) and IDLE phases by the elapsed time.
+     */
+    public void tick(long elapsedMillis) {
+        long budget = elapsedMillis;
+        while (true) {
+            if (state == ElevatorState.MAINTENANCE) {
+                return;
+            }
+
+            if (state == ElevatorState.MOVING_UP || state == ElevatorState.MOVING_DOWN) {
+                if (budget < phaseRemainingMillis) {
+                    phaseRemainingMillis -= budget;
+                    return;
+                }
+                budget -= phaseRemainingMillis;
+                arriveAtAdjacentFloor();
+            } else if (state == ElevatorState.DOOR_OPEN) {
+                if (door.isOpen()) {
+                    // Dwell while passengers board and alight
+                    if (budget < phaseRemainingMillis) {
+                        phaseRemainingMillis -= budget;
+                        return;
+                    }
+                    budget -= phaseRemainingMillis;
+                    notifyStopServed(currentFloor);
+                    door.beginClosing();
+                } else {
+                    budget = door.tick(budget);
+                    if (door.isOpen()) {
+                        doorsOpened(currentFloor);
+                        phaseRemainingMillis = DWELL_TIME_MS;
+                    } else if (!door.isClosed()) {
+                        return; // Door still in transition
+                    } else {
+                        publishEvent(ElevatorEventType.DOOR_CLOSED, currentFloor, currentFloor);
+                        commitDoorCycleEvent();
+                        if (!depart()) {
+                            return;
+                        }
+                    }
+                }
+            } else if (!depart()) {
+                return;
+            }
+        }
+    }
+
+    private void arriveAtAdjacentFloor() {
+        advanceOneFloor();
+        EventLog.log(LogLevel.DEBUG, "Elevator {} at floor {}", id, currentFloor);
+
+        if (shouldStopAtFloor(currentFloor)) {
+            beginStop();
+            return;
+        }
+
+        int nextFloor = getNextDestination();
+        if (nextFloor == FloorSet.NONE) {
+            commitTravelEvent(); // Went idle: the leg ends here
+            return;
+        }
+        if (nextFloor == currentFloor) {
+            beginStop();
+        } else {
+            startTravelTowards(nextFloor);
+        }
+    }
+
+    /**
+     * Leaves a standstill for the next destination, or settles into IDLE
+     * @return true if the car has a new phase to advance
+     */
+    private boolean depart() {
+        int nextFloor = getNextDestination();
+        if (nextFloor == FloorSet.NONE) {
+            return false;
+        }
+
+        if (nextFloor == currentFloor) {
+            beginStop();
+        } else {
+            EventLog.log(LogLevel.INFO, "Elevator {} moving from floor {} to floor {}", id, currentFloor, nextFloor);
+            beginTravelEvent();
+            startTravelTowards(nextFloor);
+        }
+        return true;
+    }
+
+    private void startTravelTowards(int targetFloor) {
+        if (targetFloor > currentFloor) {
+            updateMotion(Direction.UP, ElevatorState.MOVING_UP);
+        } else {
+            updateMotion(Direction.DOWN, ElevatorState.MOVING_DOWN);
+        }
+        phaseRemainingMillis = FLOOR_TRAVEL_TIME_MS;
+    }
+
+    private void beginStop() {
+        commitTravelEvent();
+        beginDoorCycleEvent();
+        synchronized (stateLock) {
+            state = ElevatorState.DOOR_OPEN;
+            stopServed = false;
+            upDestinations.remove(currentFloor);
+            downDestinations.remove(currentFloor);
+            publishSnapshot(true);
+        }
+        EventLog.log(LogLevel.INFO, "Elevator {} stopping at floor {}", id, currentFloor);
+
+        panel.clearButton(currentFloor);
+        door.beginOpening();
+    }
+
+    // Tick-engine counterparts of the events moveToFloor and stopAtFloor emit; a leg ends at the next stop
+    private void beginTravelEvent() {
+        if (MOVEMENT_EVENT.isEnabled()) {
+            CarMovementEvent event = new CarMovementEvent();
+            event.begin();
+            event.fromFloor = currentFloor;
+            travelEvent = event;
+            travelStartMillis = clock.currentTimeMillis();
         }
-        
-        currentDirection = Direction.IDLE;
-        state = ElevatorState.IDLE;
-        return null;
+    }
+
+    private void commitTravelEvent() {
+        CarMovementEvent event = travelEvent;
+        if (event == null) {
+            return;
+        }
+        travelEvent = null;
+        event.end();
+        if (event.shouldCommit()) {
+            event.elevatorId = id;
+            event.toFloor = currentFloor;
+            event.floorsTravelled = Math.abs(currentFloor - event.fromFloor);
+            event.travelMillis = clock.currentTimeMillis() - travelStartMillis;
+            event.commit();
+        }
+    }
+
+    private void beginDoorCycleEvent() {
+        if (DOOR_CYCLE_EVENT.isEnabled()) {
+            DoorCycleEvent event = new DoorCycleEvent();
+            event.begin();
+            doorCycleEvent = event;
+            doorCycleStartMillis = clock.currentTimeMillis();
+        }
+    }
+
+    private void commitDoorCycleEvent() {
+        DoorCycleEvent event = doorCycleEvent;
+        if (event == null) {
+            return;
+        }
+        doorCycleEvent = null;
+        event.end();
+        if (event.shouldCommit()) {
+            event.elevatorId = id;
+            event.floor = currentFloor;
+            event.dwellMillis = clock.currentTimeMillis() - doorCycleStartMillis;
+            event.commit();
+        }
+    }
+
+    private void updateMotion(Direction direction, ElevatorState newState) {
+        synchronized (stateLock) {
+            currentDirection = direction;
+            state = newState;
+            publishSnapshot(false);
+        }
+    }
+
+    private void advanceOneFloor() {
+        synchronized (stateLock) {
+            currentFloor += currentDirection == Direction.UP ? 1 : -1;
+            floorsTravelled++;
+            publishSnapshot(false);
+        }
+    }
+
+    private void checkFloor(int floor) {
+        if (floor < 0 || floor >= ridersByDestination.length) {
+            throw new IllegalArgumentException("No floor " + floor + " in elevator " + id
+                    + " (floors 0-" + (ridersByDestination.length - 1) + ")");
+        }
+    }
+
+    private boolean isQueued(int floor) {
+        return upDestinations.contains(floor) || downDestinations.contains(floor);
+    }
+
+    private void clearStop(int floor) {
+        synchronized (stateLock) {
+            upDestinations.remove(floor);
+            downDestinations.remove(floor);
+            tripPickups.remove(floor);
+            publishSnapshot(true);
+        }
+    }
+
+    /**
+     * Caller holds stateLock. Stop sets are only copied when they changed;
+     * otherwise the new snapshot shares the previous one's immutable copies.
+     * Moves and state changes are detected here, against the previous snapshot.
+     */
+    private void publishSnapshot(boolean stopsChanged) {
+        ElevatorSnapshot previous = snapshot;
+        FloorSet up = stopsChanged || previous == null ? upDestinations.copy() : previous.sharedUpDestinations();
+        FloorSet down = stopsChanged || previous == null ? downDestinations.copy() : previous.sharedDownDestinations();
+        snapshot = new ElevatorSnapshot(id, ++snapshotVersion, currentFloor, currentDirection,
+                state, currentLoad, capacity, bypassLoad, up, down, stopScheduling, lowestFloor, highestFloor);
+
+        if (previous != null) {
+            if (previous.getCurrentFloor() != currentFloor) {
+                publishEvent(ElevatorEventType.MOVED, previous.getCurrentFloor(), currentFloor);
+            }
+            if (previous.getState() != state) {
+                publishEvent(ElevatorEventType.STATE_CHANGED, currentFloor, currentFloor);
+            }
+        }
+    }
+
+    private void publishEvent(ElevatorEventType type, int fromFloor, int toFloor) {
+        ElevatorEventBus bus = eventBus;
+        if (bus != null) {
+            bus.publish(type, this, fromFloor, toFloor);
+        }
+    }
+
+    /**
+     * @return Next floor to travel to, as chosen by the stop scheduling policy, or FloorSet.NONE once the car goes idle
+     */
+    public int getNextDestination() {
+        synchronized (stateLock) {
+            int next = FloorSet.NONE;
+            if (!upDestinations.isEmpty() || !downDestinations.isEmpty()) {
+                next = stopScheduling.nextTarget(currentFloor, currentDirection, upDestinations, downDestinations,
+                        lowestFloor, highestFloor);
+            }
+            if (next != FloorSet.NONE) {
+                Direction direction = directionTowards(next);
+                if (direction != currentDirection) {
+                    currentDirection = direction;
+                    publishSnapshot(false);
+                }
+                return next;
+            }
+
+            if (currentDirection != Direction.IDLE || state != ElevatorState.IDLE) {
+                currentDirection = Direction.IDLE;
+                state = ElevatorState.IDLE;
+                publishSnapshot(false);
+            }
+            return FloorSet.NONE;
+        }
+    }
+
+    // Caller holds stateLock. A stop here keeps the direction whose sweep it was queued for.
+    private Direction directionTowards(int floor) {
+        if (floor > currentFloor) {
+            return Direction.UP;
+        } else if (floor < currentFloor) {
+            return Direction.DOWN;
+        } else if (currentDirection == Direction.UP && upDestinations.contains(floor)) {
+            return Direction.UP;
+        } else if (currentDirection == Direction.DOWN && downDestinations.contains(floor)) {
+            return Direction.DOWN;
+        }
+        return upDestinations.contains(floor) ? Direction.UP : Direction.DOWN;
     }
 
     public boolean hasDestinations() {
         return !upDestinations.isEmpty() || !downDestinations.isEmpty();
     }
 
+    /**
+     * @return Copy of the stops queued for the upward sweep
+     */
+    public FloorSet getUpDestinations() {
+        return upDestinations.copy();
+    }
+
+    /**
+     * @return Copy of the stops queued for the downward sweep
+     */
+    public FloorSet getDownDestinations() {
+        return downDestinations.copy();
+    }
+
+    public int getPendingStopCount() {
+        return upDestinations.size() + downDestinations.size();
+    }
+
+    /**
+     * Lock-free: a consistent view of position, direction, state, load and stops
+     */
+    public ElevatorSnapshot getSnapshot() {
+        return snapshot;
+    }
+
     public boolean isAvailable() {
         return state != ElevatorState.MAINTENANCE;
     }
@@ -174,16 +727,140 @@ public class Elevator {
         return capacity;
     }
 
+    /**
+     * @return Floors moved since the car was created, in either direction
+     */
+    public long getFloorsTravelled() {
+        synchronized (stateLock) {
+            return floorsTravelled;
+        }
+    }
+
+    /**
+     * @return How many times the car has opened its doors at a floor
+     */
+    public long getStopsMade() {
+        synchronized (stateLock) {
+            return stopsMade;
+        }
+    }
+
+    public StopSchedulingPolicy getStopSchedulingPolicy() {
+        return stopScheduling;
+    }
+
+    /**
+     * Changes the order in which this car serves its stops; takes effect at its next decision
+     */
+    public void setStopSchedulingPolicy(StopSchedulingPolicy stopScheduling) {
+        if (stopScheduling == null) {
+            throw new IllegalArgumentException("Stop scheduling policy required");
+        }
+        synchronized (stateLock) {
+            this.stopScheduling = stopScheduling;
+            publishSnapshot(false);
+        }
+    }
+
+    /**
+     * Limits the shaft to a zone's floors, so policies that run to its ends (SCAN) turn there
+     */
+    public void setShaftRange(int lowestFloor, int highestFloor) {
+        if (lowestFloor < 0 || highestFloor >= getNumberOfFloors() || lowestFloor > highestFloor) {
+            throw new IllegalArgumentException("Invalid shaft range " + lowestFloor + "-" + highestFloor);
+        }
+        synchronized (stateLock) {
+            this.lowestFloor = lowestFloor;
+            this.highestFloor = highestFloor;
+            publishSnapshot(false);
+        }
+    }
+
+    public int getLowestFloor() {
+        return lowestFloor;
+    }
+
+    public int getHighestFloor() {
+        return highestFloor;
+    }
+
+    public int getNumberOfFloors() {
+        return upDestinations.getNumberOfFloors();
+    }
+
     public int getCurrentLoad() {
         return currentLoad;
     }
 
+    /**
+     * Overrides the counted load, e.g. with a reading from a load-weighing sensor
+     */
     public void setCurrentLoad(int currentLoad) {
-        this.currentLoad = Math.min(currentLoad, capacity);
+        synchronized (stateLock) {
+            this.currentLoad = Math.min(currentLoad, capacity);
+            publishSnapshot(false);
+        }
+    }
+
+    /**
+     * A passenger steps in bound for the given floor; they alight when the doors next open there.
+     * Only counts the passenger: the car call itself is placed separately.
+     * @return false if the car is at capacity
+     */
+    public boolean boardPassenger(int destinationFloor) {
+        checkFloor(destinationFloor);
+        synchronized (stateLock) {
+            if (currentLoad >= capacity) {
+                return false;
+            }
+            ridersByDestination[destinationFloor]++;
+            currentLoad++;
+            publishSnapshot(false);
+            return true;
+        }
+    }
+
+    /**
+     * @param loadFactor Share of capacity, in (0, 1], from which the car bypasses hall calls
+     */
+    public void setBypassLoadFactor(double loadFactor) {
+        if (!(loadFactor > 0 && loadFactor <= 1)) {
+            throw new IllegalArgumentException("Bypass load factor must be in (0, 1]: " + loadFactor);
+        }
+        synchronized (stateLock) {
+            this.bypassLoad = bypassLoadFor(loadFactor, capacity);
+            publishSnapshot(false);
+        }
+    }
+
+    private static int bypassLoadFor(double loadFactor, int capacity) {
+        return Math.max(1, (int) Math.ceil(loadFactor * capacity));
+    }
+
+    public void setStopListener(StopListener stopListener) {
+        this.stopListener = stopListener;
+    }
+
+    public void setArrivalListener(ArrivalListener arrivalListener) {
+        this.arrivalListener = arrivalListener;
+    }
+
+    public void setBypassListener(BypassListener bypassListener) {
+        this.bypassListener = bypassListener;
+    }
+
+    /**
+     * Routes this car's moves, door and state changes to the bus's listeners
+     */
+    public void setEventBus(ElevatorEventBus eventBus) {
+        this.eventBus = eventBus;
     }
 
     public void setState(ElevatorState state) {
-        this.state = state;
+        synchronized (stateLock) {
+            this.state = state;
+            publishSnapshot(false);
+        }
     }
 
     @Override
@@ -0,0 +1,126 @@
+package org.example.models;
+
+import org.example.controller.DestinationDispatcher;
+import org.example.controller.ElevatorController;
+import org.example.controller.ElevatorDispatcher;
+import org.example.controller.ElevatorRegistry;
+import org.example.enums.Direction;
+
+import java.util.List;
+
+/**
+ * Runtime side of one elevator bank: its cars, dispatcher and hall buttons
+ * An unzoned Building is a single bank serving every floor; a zoned one has a
+ * bank per ElevatorZone, each dispatching on its own thread over its own cars.
+ * Destination-dispatch trips are assigned by the bank's DestinationDispatcher instead.
+ */
+final class ElevatorBank {
+    private final String name;
+    private final FloorSet servedFloors;
+    private final List<ElevatorController> controllers;
+    private final ElevatorRegistry registry;
+    private final ElevatorDispatcher dispatcher;
+    private final DestinationDispatcher destinationDispatcher;
+    private final HallPanel[] hallPanels; // By floor, null where the bank does not stop
+    private Thread dispatcherThread;
+
+    ElevatorBank(String name, FloorSet servedFloors, List<ElevatorController> controllers,
+                 ElevatorRegistry registry, ElevatorDispatcher dispatcher,
+                 DestinationDispatcher destinationDispatcher, HallPanel[] hallPanels) {
+        this.name = name;
+        this.servedFloors = servedFloors;
+        this.controllers = controllers;
+        this.registry = registry;
+        this.dispatcher = dispatcher;
+        this.destinationDispatcher = destinationDispatcher;
+        this.hallPanels = hallPanels;
+    }
+
+    boolean serves(int floor) {
+        return servedFloors.contains(floor);
+    }
+
+    /**
+     * @return true if the bank stops at the floor and at some floor beyond it in the given direction
+     */
+    boolean servesFrom(int floor, Direction direction) {
+        if (!serves(floor)) {
+            return false;
+        }
+        if (direction == Direction.UP) {
+            return servedFloors.nextSetFloor(floor + 1) != FloorSet.NONE;
+        }
+        return servedFloors.previousSetFloor(floor - 1) != FloorSet.NONE;
+    }
+
+    /**
+     * @return The floor nearest the target where this bank meets another (a transfer floor),
+     *         other than excludedFloor, or FloorSet.NONE if there is none
+     */
+    int nearestTransferFloor(int excludedFloor, int targetFloor, List<ElevatorBank> banks) {
+        int best = FloorSet.NONE;
+        for (int floor = servedFloors.first(); floor != FloorSet.NONE; floor = servedFloors.nextSetFloor(floor + 1)) {
+            if (floor == excludedFloor || !isSharedWithAnother(floor, banks)) {
+                continue;
+            }
+            if (best == FloorSet.NONE || Math.abs(floor - targetFloor) < Math.abs(best - targetFloor)) {
+                best = floor;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return true if a car of the bank other than the given one has a stop queued at the floor
+     */
+    boolean isStoppingAt(int floor, Elevator except) {
+        for (ElevatorController controller : controllers) {
+            Elevator elevator = controller.getElevator();
+            if (elevator != except && elevator.getSnapshot().hasStopAt(floor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSharedWithAnother(int floor, List<ElevatorBank> banks) {
+        for (ElevatorBank other : banks) {
+            if (other != this && other.serves(floor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    HallPanel getHallPanel(int floor) {
+        return hallPanels[floor];
+    }
+
+    String getName() {
+        return name;
+    }
+
+    List<ElevatorController> getControllers() {
+        return controllers;
+    }
+
+    ElevatorRegistry getRegistry() {
+        return registry;
+    }
+
+    ElevatorDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    DestinationDispatcher getDestinationDispatcher() {
+        return destinationDispatcher;
+    }
+
+    Thread getDispatcherThread() {
+        return dispatcherThread;
+    }
+
+    void setDispatcherThread(Thread dispatcherThread) {
+        this.dispatcherThread = dispatcherThread;
+    }
+}
@@ -1,7 +1,7 @@
 package org.example.models;
 
-import java.util.HashSet;
-import java.util.Set;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
 
 /**
  * Represents the button panel inside an elevator
@@ -9,24 +9,24 @@ import java.util.Set;
  */
 public class ElevatorPanel {
     private final int elevatorId;
-    private final Set<Integer> pressedButtons;
+    private final FloorSet pressedButtons;
 
-    public ElevatorPanel(int elevatorId) {
+    public ElevatorPanel(int elevatorId, int numberOfFloors) {
         this.elevatorId = elevatorId;
-        this.pressedButtons = new HashSet<>();
+        this.pressedButtons = new FloorSet(numberOfFloors);
     }
 
     public void pressButton(int floor) {
         pressedButtons.add(floor);
-        System.out.println("Elevator " + elevatorId + " - Button pressed for floor: " + floor);
+        EventLog.log(LogLevel.INFO, "Elevator {} - Button pressed for floor: {}", elevatorId, floor);
     }
 
     public void clearButton(int floor) {
         pressedButtons.remove(floor);
     }
 
-    public Set<Integer> getPressedButtons() {
-        return new HashSet<>(pressedButtons); // Return copy to maintain encapsulation
+    public FloorSet getPressedButtons() {
+        return pressedButtons.copy(); // Return copy to maintain encapsulation
     }
 
     public boolean hasDestination(int floor) {
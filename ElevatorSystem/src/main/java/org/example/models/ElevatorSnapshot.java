@@ -0,0 +1,197 @@
+package org.example.models;
+
+import org.example.enums.Direction;
+import org.example.enums.ElevatorState;
+import org.example.strategy.StopSchedulingPolicy;
+
+/**
+ * Immutable, versioned view of an elevator at one instant
+ * Copy-on-write: the car publishes a new snapshot after every change to its
+ * position, direction, state, load or stops, so readers on other threads
+ * score a consistent car without locking it.
+ */
+public final class ElevatorSnapshot {
+    private final int elevatorId;
+    private final long version;
+    private final int currentFloor;
+    private final Direction direction;
+    private final ElevatorState state;
+    private final int currentLoad;
+    private final int capacity;
+    private final int bypassLoad;
+    private final FloorSet upDestinations; // Private copies, never mutated
+    private final FloorSet downDestinations;
+    private final int upStopCount;
+    private final int downStopCount;
+    private final StopSchedulingPolicy stopScheduling; // Stateless, shared with the car
+    private final int lowestFloor; // Shaft range the policy turns within
+    private final int highestFloor;
+
+    ElevatorSnapshot(int elevatorId, long version, int currentFloor, Direction direction,
+                     ElevatorState state, int currentLoad, int capacity, int bypassLoad,
+                     FloorSet upDestinations, FloorSet downDestinations,
+                     StopSchedulingPolicy stopScheduling, int lowestFloor, int highestFloor) {
+        this.elevatorId = elevatorId;
+        this.version = version;
+        this.currentFloor = currentFloor;
+        this.direction = direction;
+        this.state = state;
+        this.currentLoad = currentLoad;
+        this.capacity = capacity;
+        this.bypassLoad = bypassLoad;
+        this.upDestinations = upDestinations;
+        this.downDestinations = downDestinations;
+        this.upStopCount = upDestinations.size();
+        this.downStopCount = downDestinations.size();
+        this.stopScheduling = stopScheduling;
+        this.lowestFloor = lowestFloor;
+        this.highestFloor = highestFloor;
+    }
+
+    public boolean isAvailable() {
+        return state != ElevatorState.MAINTENANCE;
+    }
+
+    public boolean isIdle() {
+        return state == ElevatorState.IDLE;
+    }
+
+    public int getElevatorId() {
+        return elevatorId;
+    }
+
+    /**
+     * @return Publication counter; a higher version is a later view of the same car
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int getCurrentFloor() {
+        return currentFloor;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public ElevatorState getState() {
+        return state;
+    }
+
+    public int getCurrentLoad() {
+        return currentLoad;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return true at or above the car's bypass load: it passes hall calls and strategies avoid it
+     */
+    public boolean isFull() {
+        return currentLoad >= bypassLoad;
+    }
+
+    /**
+     * @return Load from which the car passes hall calls nobody aboard is getting off at
+     */
+    public int getBypassLoad() {
+        return bypassLoad;
+    }
+
+    public int getUpStopCount() {
+        return upStopCount;
+    }
+
+    public int getDownStopCount() {
+        return downStopCount;
+    }
+
+    public int getPendingStopCount() {
+        return upStopCount + downStopCount;
+    }
+
+    public boolean hasStopAt(int floor) {
+        return upDestinations.contains(floor) || downDestinations.contains(floor);
+    }
+
+    /**
+     * @return This view with the stop at the floor removed, e.g. to score a car as if it had not taken a call
+     */
+    public ElevatorSnapshot withoutStopAt(int floor) {
+        if (!hasStopAt(floor)) {
+            return this;
+        }
+        FloorSet up = upDestinations.copy();
+        FloorSet down = downDestinations.copy();
+        up.remove(floor);
+        down.remove(floor);
+        return new ElevatorSnapshot(elevatorId, version, currentFloor, direction, state, currentLoad, capacity,
+                bypassLoad, up, down, stopScheduling, lowestFloor, highestFloor);
+    }
+
+    /**
+     * @return Copy of the stops queued for the upward sweep
+     */
+    public FloorSet getUpDestinations() {
+        return upDestinations.copy();
+    }
+
+    /**
+     * @return Copy of the stops queued for the downward sweep
+     */
+    public FloorSet getDownDestinations() {
+        return downDestinations.copy();
+    }
+
+    /**
+     * Copies the stops of both sweeps into the given sets without allocating
+     */
+    public void copyDestinationsInto(FloorSet up, FloorSet down) {
+        up.copyFrom(upDestinations);
+        down.copyFrom(downDestinations);
+    }
+
+    /**
+     * @return The policy the car serves its stops with, for replaying its route
+     */
+    public StopSchedulingPolicy getStopSchedulingPolicy() {
+        return stopScheduling;
+    }
+
+    public int getNumberOfFloors() {
+        return upDestinations.getNumberOfFloors();
+    }
+
+    public int getLowestFloor() {
+        return lowestFloor;
+    }
+
+    public int getHighestFloor() {
+        return highestFloor;
+    }
+
+    // Lets the next snapshot of the same car reuse unchanged stop sets
+    FloorSet sharedUpDestinations() {
+        return upDestinations;
+    }
+
+    FloorSet sharedDownDestinations() {
+        return downDestinations;
+    }
+
+    @Override
+    public String toString() {
+        return "ElevatorSnapshot{" +
+                "id=" + elevatorId +
+                ", version=" + version +
+                ", floor=" + currentFloor +
+                ", direction=" + direction +
+                ", state=" + state +
+                ", load=" + currentLoad +
+                ", stops=" + getPendingStopCount() +
+                '}';
+    }
+}
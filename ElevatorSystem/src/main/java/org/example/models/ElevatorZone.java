@@ -0,0 +1,175 @@
+package org.example.models;
+
+import org.example.strategy.ElevatorSelectionStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration of one elevator bank (zone) in a zoned building
+ * A zone serves a contiguous range of floors plus the lobby floors its cars
+ * run express to, e.g. a high-rise zone serving 31-45 from a sky lobby at 30,
+ * or a shuttle serving the sky lobby from the ground floor. Each zone gets its
+ * own cars, dispatcher, request queue and selection strategy.
+ */
+public final class ElevatorZone {
+    private final String name;
+    private final List<Integer> lobbyFloors;
+    private final int lowestFloor;
+    private final int highestFloor;
+    private final int numberOfElevators;
+    private final int capacity;
+    private final ElevatorSelectionStrategy selectionStrategy; // Null: the building's strategy
+
+    private ElevatorZone(Builder builder) {
+        this.name = builder.name;
+        this.lobbyFloors = Collections.unmodifiableList(new ArrayList<>(builder.lobbyFloors));
+        this.lowestFloor = builder.lowestFloor;
+        this.highestFloor = builder.highestFloor;
+        this.numberOfElevators = builder.numberOfElevators;
+        this.capacity = builder.capacity;
+        this.selectionStrategy = builder.selectionStrategy;
+    }
+
+    /**
+     * Low-, mid- or high-rise bank: every floor from lowestFloor to highestFloor, reached express from the lobby
+     */
+    public static ElevatorZone rise(String name, int lobbyFloor, int lowestFloor, int highestFloor,
+                                    int numberOfElevators, int capacity) {
+        return new Builder()
+                .name(name)
+                .lobby(lobbyFloor)
+                .floors(lowestFloor, highestFloor)
+                .elevators(numberOfElevators, capacity)
+                .build();
+    }
+
+    /**
+     * Express shuttle between a main lobby and a sky lobby, with no stops in between
+     */
+    public static ElevatorZone shuttle(String name, int lobbyFloor, int skyLobbyFloor,
+                                       int numberOfElevators, int capacity) {
+        return new Builder()
+                .name(name)
+                .lobby(lobbyFloor)
+                .floors(skyLobbyFloor, skyLobbyFloor)
+                .elevators(numberOfElevators, capacity)
+                .build();
+    }
+
+    public boolean serves(int floor) {
+        return (floor >= lowestFloor && floor <= highestFloor) || lobbyFloors.contains(floor);
+    }
+
+    /**
+     * @return Every floor this zone's cars stop at, lobbies included
+     */
+    public FloorSet servedFloors(int numberOfFloors) {
+        FloorSet served = new FloorSet(numberOfFloors);
+        for (int floor = lowestFloor; floor <= highestFloor; floor++) {
+            served.add(floor);
+        }
+        for (int lobby : lobbyFloors) {
+            served.add(lobby);
+        }
+        return served;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Integer> getLobbyFloors() {
+        return lobbyFloors;
+    }
+
+    public int getLowestFloor() {
+        return lowestFloor;
+    }
+
+    public int getHighestFloor() {
+        return highestFloor;
+    }
+
+    public int getNumberOfElevators() {
+        return numberOfElevators;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public ElevatorSelectionStrategy getSelectionStrategy() {
+        return selectionStrategy;
+    }
+
+    @Override
+    public String toString() {
+        return "ElevatorZone{" +
+                "name=" + name +
+                ", lobbies=" + lobbyFloors +
+                ", floors=" + lowestFloor + "-" + highestFloor +
+                ", elevators=" + numberOfElevators +
+                '}';
+    }
+
+    /**
+     * Builder Pattern: a zone needs a name, served floors and cars; lobbies and strategy are optional
+     */
+    public static class Builder {
+        private String name;
+        private final List<Integer> lobbyFloors = new ArrayList<>();
+        private int lowestFloor = -1;
+        private int highestFloor = -1;
+        private int numberOfElevators;
+        private int capacity;
+        private ElevatorSelectionStrategy selectionStrategy;
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Adds a floor outside the served range that the cars also stop at, e.g. the ground or a sky lobby
+         */
+        public Builder lobby(int floor) {
+            if (floor < 0) {
+                throw new IllegalArgumentException("Lobby floor must be non-negative: " + floor);
+            }
+            this.lobbyFloors.add(floor);
+            return this;
+        }
+
+        public Builder floors(int lowestFloor, int highestFloor) {
+            if (lowestFloor < 0 || highestFloor < lowestFloor) {
+                throw new IllegalArgumentException("Invalid zone floors " + lowestFloor + "-" + highestFloor);
+            }
+            this.lowestFloor = lowestFloor;
+            this.highestFloor = highestFloor;
+            return this;
+        }
+
+        public Builder elevators(int numberOfElevators, int capacity) {
+            this.numberOfElevators = numberOfElevators;
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Overrides the building's selection strategy for this zone only
+         */
+        public Builder selectionStrategy(ElevatorSelectionStrategy selectionStrategy) {
+            this.selectionStrategy = selectionStrategy;
+            return this;
+        }
+
+        public ElevatorZone build() {
+            if (name == null || lowestFloor < 0 || numberOfElevators <= 0) {
+                throw new IllegalStateException("Zone requires name, floors, and elevators");
+            }
+            return new ElevatorZone(this);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.models;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Compact set of floor numbers backed by one bit per floor
+ * Thread-safe: every bit is flipped with a CAS on its 64-floor word, so one
+ * thread can add stops while another queries and removes them. Nothing is
+ * boxed, and a 200-floor set fits in four words.
+ */
+public class FloorSet {
+    public static final int NONE = -1;
+
+    private final int numberOfFloors;
+    private final AtomicLongArray words;
+
+    public FloorSet(int numberOfFloors) {
+        if (numberOfFloors <= 0) {
+            throw new IllegalArgumentException("Number of floors must be positive: " + numberOfFloors);
+        }
+        this.numberOfFloors = numberOfFloors;
+        this.words = new AtomicLongArray((numberOfFloors + 63) >>> 6);
+    }
+
+    /**
+     * @return true if the floor was not already in the set
+     */
+    public boolean add(int floor) {
+        checkFloor(floor);
+        int index = floor >>> 6;
+        long bit = 1L << floor;
+        while (true) {
+            long word = words.get(index);
+            if ((word & bit) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word | bit)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return true if the floor was in the set
+     */
+    public boolean remove(int floor) {
+        checkFloor(floor);
+        int index = floor >>> 6;
+        long bit = 1L << floor;
+        while (true) {
+            long word = words.get(index);
+            if ((word & bit) == 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word & ~bit)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean contains(int floor) {
+        if (floor < 0 || floor >= numberOfFloors) {
+            return false;
+        }
+        return (words.get(floor >>> 6) & (1L << floor)) != 0;
+    }
+
+    /**
+     * @return Lowest floor >= fromFloor in the set, or NONE
+     */
+    public int nextSetFloor(int fromFloor) {
+        if (fromFloor >= numberOfFloors) {
+            return NONE;
+        }
+        int from = Math.max(fromFloor, 0);
+        int index = from >>> 6;
+        long word = words.get(index) & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (index << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == words.length()) {
+                return NONE;
+            }
+            word = words.get(index);
+        }
+    }
+
+    /**
+     * @return Highest floor <= fromFloor in the set, or NONE
+     */
+    public int previousSetFloor(int fromFloor) {
+        if (fromFloor < 0) {
+            return NONE;
+        }
+        int from = Math.min(fromFloor, numberOfFloors - 1);
+        int index = from >>> 6;
+        long word = words.get(index) & (-1L >>> (63 - (from & 63)));
+        while (true) {
+            if (word != 0) {
+                return (index << 6) + 63 - Long.numberOfLeadingZeros(word);
+            }
+            if (--index < 0) {
+                return NONE;
+            }
+            word = words.get(index);
+        }
+    }
+
+    public int first() {
+        return nextSetFloor(0);
+    }
+
+    public int last() {
+        return previousSetFloor(numberOfFloors - 1);
+    }
+
+    public boolean isEmpty() {
+        for (int i = 0; i < words.length(); i++) {
+            if (words.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < words.length(); i++) {
+            size += Long.bitCount(words.get(i));
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (int i = 0; i < words.length(); i++) {
+            words.set(i, 0);
+        }
+    }
+
+    /**
+     * @return Independent copy; each word is read atomically
+     */
+    public FloorSet copy() {
+        FloorSet copy = new FloorSet(numberOfFloors);
+        for (int i = 0; i < words.length(); i++) {
+            copy.words.set(i, words.get(i));
+        }
+        return copy;
+    }
+
+    /**
+     * Makes this set hold exactly the floors of other, without allocating; each word is read atomically
+     */
+    public void copyFrom(FloorSet other) {
+        if (other.numberOfFloors != numberOfFloors) {
+            throw new IllegalArgumentException("Floor sets differ in size: " + other.numberOfFloors
+                    + " and " + numberOfFloors);
+        }
+        for (int i = 0; i < words.length(); i++) {
+            words.set(i, other.words.get(i));
+        }
+    }
+
+    public int getNumberOfFloors() {
+        return numberOfFloors;
+    }
+
+    private void checkFloor(int floor) {
+        if (floor < 0 || floor >= numberOfFloors) {
+            throw new IllegalArgumentException("Floor " + floor + " outside 0.." + (numberOfFloors - 1));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int floor = first(); floor != NONE; floor = nextSetFloor(floor + 1)) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(floor);
+        }
+        return builder.append(']').toString();
+    }
+}
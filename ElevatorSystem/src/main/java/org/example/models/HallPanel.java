@@ -1,38 +1,55 @@
 package org.example.models;
 
 import org.example.enums.Direction;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Represents the button panel on each floor (hall buttons)
  * Single Responsibility: Manages external floor buttons
+ * A lit button is an outstanding hall call, so repeated presses coalesce into one
  */
 public class HallPanel {
     private final int floorNumber;
-    private boolean upButtonPressed;
-    private boolean downButtonPressed;
+    private final AtomicBoolean upButtonPressed;
+    private final AtomicBoolean downButtonPressed;
 
     public HallPanel(int floorNumber) {
         this.floorNumber = floorNumber;
-        this.upButtonPressed = false;
-        this.downButtonPressed = false;
+        this.upButtonPressed = new AtomicBoolean(false);
+        this.downButtonPressed = new AtomicBoolean(false);
     }
 
-    public void pressUpButton() {
-        upButtonPressed = true;
-        System.out.println("Floor " + floorNumber + " - UP button pressed");
+    /**
+     * @return true if this press lit the button, false if a call was already outstanding
+     */
+    public boolean pressUpButton() {
+        if (!upButtonPressed.compareAndSet(false, true)) {
+            return false;
+        }
+        EventLog.log(LogLevel.INFO, "Floor {} - UP button pressed", floorNumber);
+        return true;
     }
 
-    public void pressDownButton() {
-        downButtonPressed = true;
-        System.out.println("Floor " + floorNumber + " - DOWN button pressed");
+    /**
+     * @return true if this press lit the button, false if a call was already outstanding
+     */
+    public boolean pressDownButton() {
+        if (!downButtonPressed.compareAndSet(false, true)) {
+            return false;
+        }
+        EventLog.log(LogLevel.INFO, "Floor {} - DOWN button pressed", floorNumber);
+        return true;
     }
 
     public void clearUpButton() {
-        upButtonPressed = false;
+        upButtonPressed.set(false);
     }
 
     public void clearDownButton() {
-        downButtonPressed = false;
+        downButtonPressed.set(false);
     }
 
     public void clearButton(Direction direction) {
@@ -44,11 +61,15 @@ public class HallPanel {
     }
 
     public boolean isUpButtonPressed() {
-        return upButtonPressed;
+        return upButtonPressed.get();
     }
 
     public boolean isDownButtonPressed() {
-        return downButtonPressed;
+        return downButtonPressed.get();
+    }
+
+    public boolean isButtonPressed(Direction direction) {
+        return direction == Direction.UP ? isUpButtonPressed() : direction == Direction.DOWN && isDownButtonPressed();
     }
 
     public int getFloorNumber() {
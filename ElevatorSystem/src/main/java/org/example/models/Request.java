@@ -1,10 +1,9 @@
 package org.example.models;
 
 import org.example.enums.Direction;
+import org.example.enums.RequestPriority;
 import org.example.enums.RequestType;
 
-import java.time.LocalDateTime;
-
 /**
  * Represents a request for elevator service
  * Encapsulates what changes: request details can vary
@@ -14,14 +13,18 @@ public class Request {
     private final Integer destinationFloor; // Nullable for hall requests
     private final Direction direction;
     private final RequestType requestType;
-    private final LocalDateTime timestamp;
+    private final RequestPriority priority;
+    private final long timestampNanos; // Monotonic clock time the request was made
+    private final boolean timestamped; // False if timestampNanos is the System.nanoTime() fallback
 
     private Request(Builder builder) {
         this.sourceFloor = builder.sourceFloor;
         this.destinationFloor = builder.destinationFloor;
         this.direction = builder.direction;
         this.requestType = builder.requestType;
-        this.timestamp = LocalDateTime.now();
+        this.priority = builder.priority != null ? builder.priority : RequestPriority.NORMAL;
+        this.timestampNanos = builder.timestamped ? builder.timestampNanos : System.nanoTime();
+        this.timestamped = builder.timestamped;
     }
 
     public int getSourceFloor() {
@@ -40,8 +43,19 @@ public class Request {
         return requestType;
     }
 
-    public LocalDateTime getTimestamp() {
-        return timestamp;
+    public RequestPriority getPriority() {
+        return priority;
+    }
+
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+
+    /**
+     * @return true if the builder was given a SimulationClock time
+     */
+    public boolean hasTimestamp() {
+        return timestamped;
     }
 
     @Override
@@ -51,7 +65,8 @@ public class Request {
                 ", from=" + sourceFloor +
                 ", to=" + destinationFloor +
                 ", direction=" + direction +
-                ", time=" + timestamp +
+                (priority != RequestPriority.NORMAL ? ", priority=" + priority : "") +
+                ", time=" + timestampNanos / 1_000_000L + "ms" +
                 '}';
     }
 
@@ -61,6 +76,9 @@ public class Request {
         private Integer destinationFloor;
         private Direction direction;
         private RequestType requestType;
+        private RequestPriority priority = RequestPriority.NORMAL;
+        private long timestampNanos;
+        private boolean timestamped; // Primitive pair: no boxed Long per request
 
         public Builder sourceFloor(int sourceFloor) {
             this.sourceFloor = sourceFloor;
@@ -82,6 +100,21 @@ public class Request {
             return this;
         }
 
+        public Builder priority(RequestPriority priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * Stamps the request with a SimulationClock time (defaults to System.nanoTime();
+         * ElevatorDispatcher.submitRequest replaces the default with its own clock's time)
+         */
+        public Builder timestampNanos(long timestampNanos) {
+            this.timestampNanos = timestampNanos;
+            this.timestamped = true;
+            return this;
+        }
+
         public Request build() {
             return new Request(this);
         }
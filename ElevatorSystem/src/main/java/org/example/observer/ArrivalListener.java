@@ -0,0 +1,11 @@
+package org.example.observer;
+
+import org.example.models.Elevator;
+
+/**
+ * Callback fired on the car's own thread once its doors have opened at a floor
+ * Used by ElevatorController to time how long calls waited for the car
+ */
+public interface ArrivalListener {
+    void onDoorsOpened(Elevator elevator, int floor);
+}
@@ -0,0 +1,11 @@
+package org.example.observer;
+
+import org.example.models.Elevator;
+
+/**
+ * Callback fired on the car's own thread when a full car passes a floor it was sent to for a hall call
+ * Used by Building to hand the calls still waiting there to another car
+ */
+public interface BypassListener {
+    void onHallCallBypassed(Elevator elevator, int floor);
+}
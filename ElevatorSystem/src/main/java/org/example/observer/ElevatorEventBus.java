@@ -0,0 +1,246 @@
+package org.example.observer;
+
+import org.example.enums.ElevatorEventType;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.models.Elevator;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Observer Pattern: delivers car events to ElevatorEventListeners off the motion path
+ *
+ * Cars publish into a preallocated broadcast ring and return at once: a CAS on
+ * the tail and four array writes, no locks and no allocation. Every listener has
+ * its own consumer thread and cursor and receives events in batches. Producers
+ * never wait for consumers; a listener that falls a full ring behind skips to the
+ * oldest event still held and the gap is counted as missed. A slow lobby display
+ * therefore loses updates instead of delaying a car or the other listeners.
+ *
+ * Listeners see the Elevator as it is at delivery time; the floors passed to
+ * onElevatorMoved are those of the recorded move.
+ */
+public class ElevatorEventBus {
+    private static final long WRITING = Long.MIN_VALUE;
+    private static final int DELIVERY_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static final long DRAIN_TIMEOUT_MS = 1000;
+    private static final ElevatorEventType[] EVENT_TYPES = ElevatorEventType.values();
+
+    private final int mask;
+    private final AtomicLongArray published; // Position last written to each slot, or WRITING
+    private final int[] types;
+    private final Elevator[] elevators;
+    private final int[] fromFloors;
+    private final int[] toFloors;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong missedEvents = new AtomicLong();
+    private final List<Subscriber> subscribers;
+    private volatile boolean running;
+
+    /**
+     * @param capacity Minimum number of retained events; rounded up to a power of two
+     */
+    public ElevatorEventBus(int capacity, List<ElevatorEventListener> listeners) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Event bus capacity out of range: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.mask = size - 1;
+        this.published = new AtomicLongArray(size);
+        this.types = new int[size];
+        this.elevators = new Elevator[size];
+        this.fromFloors = new int[size];
+        this.toFloors = new int[size];
+        for (int i = 0; i < size; i++) {
+            published.set(i, i - size); // Free for the first lap
+        }
+
+        this.subscribers = new ArrayList<>();
+        for (ElevatorEventListener listener : listeners) {
+            subscribers.add(new Subscriber(listener));
+        }
+    }
+
+    public void start() {
+        running = true;
+        for (int i = 0; i < subscribers.size(); i++) {
+            Subscriber subscriber = subscribers.get(i);
+            subscriber.thread = new Thread(subscriber, "Event-Bus-" + (i + 1));
+            subscriber.thread.setDaemon(true);
+            subscriber.thread.start();
+        }
+    }
+
+    /**
+     * Lets every listener catch up with the events published so far, then stops
+     * delivery; a listener still busy after the drain timeout is interrupted
+     */
+    public void stop() {
+        running = false;
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+        for (Subscriber subscriber : subscribers) {
+            Thread thread = subscriber.thread;
+            if (thread == null) {
+                continue;
+            }
+            LockSupport.unpark(thread);
+            try {
+                thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (thread.isAlive()) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Safe to call from any number of threads; never blocks
+     * @return false if the event was dropped because its slot is still being written from the previous lap
+     */
+    public boolean publish(ElevatorEventType type, Elevator elevator, int fromFloor, int toFloor) {
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) position & mask;
+            if (published.get(index) == position - mask - 1) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else {
+                long current = tail.get();
+                if (current == position) {
+                    droppedEvents.incrementAndGet();
+                    return false;
+                }
+                position = current; // Another producer claimed it; reload
+            }
+        }
+
+        // Seqlock: consumers that read the slot while it is rewritten see the marker change and discard it
+        published.set(index, WRITING);
+        VarHandle.storeStoreFence();
+        types[index] = type.ordinal();
+        elevators[index] = elevator;
+        fromFloors[index] = fromFloor;
+        toFloors[index] = toFloor;
+        published.lazySet(index, position);
+        return true;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public int getListenerCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * @return Events a producer could not publish
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * @return Events overwritten before a slow listener reached them, summed over listeners
+     */
+    public long getMissedEvents() {
+        return missedEvents.get();
+    }
+
+    /**
+     * One listener's consumer: its own cursor, thread and delivery batches
+     */
+    private final class Subscriber implements Runnable {
+        private final ElevatorEventListener listener;
+        private volatile Thread thread;
+        private long cursor; // Consumer thread only
+
+        private Subscriber(ElevatorEventListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean stopping = !running; // Read first so the last drain covers everything published before stop()
+                if (drain() == 0) {
+                    if (stopping) {
+                        return;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        }
+
+        private int drain() {
+            int delivered = 0;
+            while (delivered < DELIVERY_BATCH) {
+                int index = (int) cursor & mask;
+                long sequence = published.get(index);
+                if (sequence == cursor) {
+                    int type = types[index];
+                    Elevator elevator = elevators[index];
+                    int fromFloor = fromFloors[index];
+                    int toFloor = toFloors[index];
+                    VarHandle.loadLoadFence();
+                    if (published.get(index) == cursor) {
+                        cursor++;
+                        delivered++;
+                        deliver(EVENT_TYPES[type], elevator, fromFloor, toFloor);
+                        continue;
+                    }
+                } else if (sequence < cursor && sequence != WRITING) {
+                    break; // Nothing published at the cursor yet
+                } else if (sequence == WRITING && tail.get() - cursor <= mask + 1) {
+                    break; // The event at the cursor is still being written
+                }
+
+                // Overwritten by a later lap: resume at the oldest event the ring still holds
+                long resume = Math.max(cursor + 1, tail.get() - mask - 1);
+                missedEvents.addAndGet(resume - cursor);
+                cursor = resume;
+            }
+            return delivered;
+        }
+
+        private void deliver(ElevatorEventType type, Elevator elevator, int fromFloor, int toFloor) {
+            try {
+                switch (type) {
+                    case MOVED:
+                        listener.onElevatorMoved(elevator, fromFloor, toFloor);
+                        break;
+                    case DOOR_OPENED:
+                        listener.onElevatorDoorOpened(elevator);
+                        break;
+                    case DOOR_CLOSED:
+                        listener.onElevatorDoorClosed(elevator);
+                        break;
+                    case STATE_CHANGED:
+                        listener.onElevatorStateChanged(elevator);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown event type " + type);
+                }
+            } catch (RuntimeException e) {
+                // A failing listener must not stop delivery to itself or anyone else
+                EventLog.log(LogLevel.WARN, "Event listener failed", e);
+            }
+        }
+    }
+}
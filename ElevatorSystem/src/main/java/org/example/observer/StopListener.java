@@ -0,0 +1,16 @@
+package org.example.observer;
+
+import org.example.enums.Direction;
+import org.example.models.Elevator;
+
+/**
+ * Callback fired on the car's own thread when it is about to leave a floor it stopped at
+ * Used by Building to clear the hall buttons the stop has served
+ */
+public interface StopListener {
+    /**
+     * @param served Hall-call direction the stop served: the way the car leaves with the stops it now has,
+     *               or IDLE for both if it has none left or turns around here
+     */
+    void onStopServed(Elevator elevator, int floor, Direction served);
+}
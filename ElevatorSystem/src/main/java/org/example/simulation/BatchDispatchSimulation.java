@@ -0,0 +1,99 @@
+package org.example.simulation;
+
+import org.example.clock.DiscreteEventClock;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.models.Building;
+import org.example.strategy.HungarianBatchStrategy;
+import org.example.strategy.NearestElevatorStrategy;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares greedy NearestElevatorStrategy dispatch with Hungarian batch dispatch
+ * on bursty hall traffic, reporting average and p95 hall-call wait times.
+ * Both runs see the same seeded bursts on a DiscreteEventClock.
+ *
+ * Usage: BatchDispatchSimulation [seed] [windowMillis]
+ */
+public class BatchDispatchSimulation {
+    private static final long DURATION_MS = 2L * 60 * 60 * 1000;
+    private static final long SAMPLE_INTERVAL_MS = 100;
+    private static final long MEAN_BURST_GAP_MS = 30_000;
+    private static final int FLOORS = 20;
+    private static final int ELEVATORS = 4;
+    private static final int LABEL_WIDTH = 28;
+
+    public static void main(String[] args) {
+        EventLog.setLevel(LogLevel.WARN);
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 7L;
+        long windowMillis = args.length > 1 ? Long.parseLong(args[1]) : 300L;
+
+        List<Long> greedy = run(seed, false, windowMillis);
+        List<Long> batch = run(seed, true, windowMillis);
+
+        System.out.println("\n=== Batch Dispatch Comparison ===");
+        System.out.println(String.format("%-" + LABEL_WIDTH + "s %8s %10s %10s",
+                "dispatch", "calls", "avg s", "p95 s"));
+        HallCallWaits.printRow("Nearest (greedy)", LABEL_WIDTH, greedy);
+        HallCallWaits.printRow("Hungarian (" + windowMillis + " ms window)", LABEL_WIDTH, batch);
+    }
+
+    private static List<Long> run(long seed, boolean batchDispatch, long windowMillis) {
+        Random random = new Random(seed);
+        DiscreteEventClock clock = new DiscreteEventClock();
+        Building.Builder builder = new Building.Builder()
+                .name(batchDispatch ? "Batch Tower" : "Greedy Tower")
+                .floors(FLOORS)
+                .elevators(ELEVATORS, 10)
+                .clock(clock);
+        if (batchDispatch) {
+            builder.selectionStrategy(new HungarianBatchStrategy()).batchDispatch(windowMillis);
+        } else {
+            builder.selectionStrategy(new NearestElevatorStrategy());
+        }
+        Building building = builder.build();
+
+        HallCallWaits waits = new HallCallWaits();
+
+        clock.attach();
+        building.start();
+        try {
+            long nextBurst = nextGap(random);
+            while (clock.currentTimeMillis() < DURATION_MS) {
+                clock.sleep(SAMPLE_INTERVAL_MS);
+                long now = clock.currentTimeMillis();
+                waits.recordArrivals(building, now);
+                if (now >= nextBurst) {
+                    placeBurst(building, random, waits, now);
+                    nextBurst = now + nextGap(random);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            building.stop();
+            clock.detach();
+        }
+        return waits.getWaits();
+    }
+
+    private static void placeBurst(Building building, Random random, HallCallWaits waits, long now) {
+        int size = 5 + random.nextInt(8);
+        for (int i = 0; i < size; i++) {
+            int floor = random.nextInt(FLOORS);
+            boolean up = floor == 0 || (floor < FLOORS - 1 && random.nextBoolean());
+            if (up) {
+                building.requestElevatorUp(floor);
+            } else {
+                building.requestElevatorDown(floor);
+            }
+            waits.callPlaced(floor, now);
+        }
+    }
+
+    private static long nextGap(Random random) {
+        return 1 + (long) (-Math.log(1 - random.nextDouble()) * MEAN_BURST_GAP_MS);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.simulation;
+
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.models.Building;
+import org.example.strategy.EstimatedTimeOfArrivalStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compares conventional hall calls with destination dispatch in the morning up-peak
+ * on identical LoadTestHarness traffic, at rising arrival rates
+ * Conventional passengers press UP and board whichever car opens first; with
+ * destination dispatch they enter their floor and board the car they were given,
+ * which groups them by destination. HC5 beyond the arrival rate's share shows the
+ * handling capacity once the lobby saturates.
+ *
+ * Usage: DestinationDispatchSimulation [seed] [minutes] [passengersPerMinute ...]
+ */
+public class DestinationDispatchSimulation {
+    private static final double[] DEFAULT_RATES = {20, 30, 40, 50};
+
+    public static void main(String[] args) {
+        EventLog.setLevel(LogLevel.WARN);
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 7L;
+        long minutes = args.length > 1 ? Long.parseLong(args[1]) : 30L;
+        double[] rates = DEFAULT_RATES;
+        if (args.length > 2) {
+            rates = new double[args.length - 2];
+            for (int i = 2; i < args.length; i++) {
+                rates[i - 2] = Double.parseDouble(args[i]);
+            }
+        }
+
+        System.out.println("\n=== Destination dispatch: up-peak, " + LoadTestHarness.FLOORS + " floors, "
+                + minutes + " min, seed " + seed + " ===");
+        System.out.println(String.format("%-6s %-16s %9s %7s %7s %9s %7s %6s %10s",
+                "pax/m", "dispatch", "delivered", "wait s", "p95", "journey s", "p95", "HC5", "stops/pax"));
+        for (double rate : rates) {
+            TrafficPattern pattern = TrafficPattern.upPeak(LoadTestHarness.FLOORS, rate);
+            printRow(rate, "ETA hall calls", LoadTestHarness.run(pattern, seed, minutes,
+                    LoadTestHarness.newBuilder().selectionStrategy(new EstimatedTimeOfArrivalStrategy()), false));
+            printRow(rate, "Destination", LoadTestHarness.run(pattern, seed, minutes,
+                    LoadTestHarness.newBuilder(), true));
+        }
+        System.out.println("HC5: most passengers delivered in any 5-minute window; stops/pax: door openings per delivery");
+    }
+
+    private static void printRow(double rate, String label, LoadTestHarness.Result result) {
+        List<Long> waits = new ArrayList<>();
+        List<Long> journeys = new ArrayList<>();
+        List<Long> alightTimes = new ArrayList<>();
+        for (Passenger passenger : result.delivered) {
+            waits.add(passenger.getWaitMillis());
+            journeys.add(passenger.getJourneyMillis());
+            alightTimes.add(passenger.getAlightMillis());
+        }
+        Collections.sort(waits);
+        Collections.sort(journeys);
+        Collections.sort(alightTimes);
+
+        System.out.println(String.format("%-6.0f %-16s %4d/%-4d %7.1f %7.1f %9.1f %7.1f %6d %10.2f",
+                rate, label, result.delivered.size(), result.generated,
+                LoadTestHarness.average(waits) / 1000.0, LoadTestHarness.percentile(waits, 0.95) / 1000.0,
+                LoadTestHarness.average(journeys) / 1000.0, LoadTestHarness.percentile(journeys, 0.95) / 1000.0,
+                LoadTestHarness.handlingCapacity(alightTimes),
+                result.delivered.isEmpty() ? 0.0 : (double) result.stopsMade / result.delivered.size()));
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.simulation;
+
+import org.example.enums.ElevatorState;
+import org.example.models.Building;
+import org.example.models.Elevator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hall-call waits as a passenger on the floor sees them: a call is served once any
+ * car stands at its floor with the doors open
+ * Sampled by the thread driving a simulation, so waits are as fine as its sampling interval.
+ */
+public class HallCallWaits {
+    private final List<long[]> outstanding = new ArrayList<>(); // {floor, callTime}
+    private final List<Long> waits = new ArrayList<>();
+
+    public void callPlaced(int floor, long nowMillis) {
+        outstanding.add(new long[]{floor, nowMillis});
+    }
+
+    /**
+     * Ends the wait of every outstanding call on a floor where a car now has its doors open
+     */
+    public void recordArrivals(Building building, long nowMillis) {
+        for (Elevator elevator : building.getElevators()) {
+            if (elevator.getState() != ElevatorState.DOOR_OPEN) {
+                continue;
+            }
+            Iterator<long[]> iterator = outstanding.iterator();
+            while (iterator.hasNext()) {
+                long[] call = iterator.next();
+                if (call[0] == elevator.getCurrentFloor()) {
+                    waits.add(nowMillis - call[1]);
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public boolean hasOutstanding() {
+        return !outstanding.isEmpty();
+    }
+
+    /**
+     * @return Wait of every call served so far, in the order they were served
+     */
+    public List<Long> getWaits() {
+        return waits;
+    }
+
+    /**
+     * Prints the label, the number of served calls and their average and p95 wait in seconds
+     */
+    public static void printRow(String label, int labelWidth, List<Long> waits) {
+        List<Long> sorted = new ArrayList<>(waits);
+        Collections.sort(sorted);
+        System.out.println(String.format("%-" + labelWidth + "s %8d %10.1f %10.1f",
+                label, sorted.size(), LoadTestHarness.average(sorted) / 1000.0,
+                LoadTestHarness.percentile(sorted, 0.95) / 1000.0));
+    }
+}
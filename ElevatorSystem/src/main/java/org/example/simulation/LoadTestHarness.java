@@ -0,0 +1,312 @@
+package org.example.simulation;
+
+import org.example.clock.DiscreteEventClock;
+import org.example.enums.Direction;
+import org.example.enums.ElevatorState;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.models.Building;
+import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.FloorSet;
+import org.example.strategy.ElevatorSelectionStrategy;
+import org.example.strategy.EstimatedTimeOfArrivalStrategy;
+import org.example.strategy.HungarianBatchStrategy;
+import org.example.strategy.LeastLoadedStrategy;
+import org.example.strategy.NearestElevatorStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test: drives a Building with generated passengers end to end and
+ * reports waiting time, journey time and handling capacity per strategy.
+ *
+ * Passengers press the hall button for their direction, board a car that opens
+ * its doors on their floor heading their way (capacity permitting), press their
+ * destination inside the car and leave when it opens there. The car counts its
+ * own load from those boardings, so strategies and load bypass see real loads. Anyone still
+ * waiting after their call was cleared presses again. With destination dispatch
+ * passengers enter their trip instead and board only the car they were given,
+ * asking again if it leaves without them. Every strategy sees the same seeded
+ * passengers on a DiscreteEventClock.
+ *
+ * Usage: LoadTestHarness [up-peak|down-peak|lunch|inter-floor] [seed] [minutes] [passengersPerMinute]
+ */
+public class LoadTestHarness {
+    private static final long SAMPLE_INTERVAL_MS = 100;
+    private static final long DRAIN_LIMIT_MS = 15L * 60 * 1000; // Time allowed to finish trips after traffic stops
+    private static final long HANDLING_WINDOW_MS = 5L * 60 * 1000;
+    static final int FLOORS = 20;
+    private static final int ELEVATORS = 4;
+    private static final int CAPACITY = 10;
+    private static final long BATCH_WINDOW_MS = 300;
+
+    public static void main(String[] args) {
+        EventLog.setLevel(LogLevel.WARN);
+        String patternName = args.length > 0 ? args[0] : "up-peak";
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 7L;
+        long minutes = args.length > 2 ? Long.parseLong(args[2]) : 30L;
+        double passengersPerMinute = args.length > 3 ? Double.parseDouble(args[3]) : 20.0;
+        TrafficPattern pattern = TrafficPattern.named(patternName, FLOORS, passengersPerMinute);
+
+        List<String> labels = new ArrayList<>();
+        List<Result> results = new ArrayList<>();
+        labels.add("Nearest");
+        results.add(run(pattern, seed, minutes, new NearestElevatorStrategy(), false));
+        labels.add("Least loaded");
+        results.add(run(pattern, seed, minutes, new LeastLoadedStrategy(), false));
+        labels.add("ETA");
+        results.add(run(pattern, seed, minutes, new EstimatedTimeOfArrivalStrategy(), false));
+        labels.add("Hungarian (batch)");
+        results.add(run(pattern, seed, minutes, new HungarianBatchStrategy(), true));
+
+        System.out.println("\n=== Load Test: " + pattern.getName() + ", " + passengersPerMinute
+                + " passengers/min for " + minutes + " min, seed " + seed + " ===");
+        System.out.println(String.format("%-18s %9s %7s %7s %7s %9s %9s %9s %6s",
+                "strategy", "delivered", "wait s", "p95", "p99", "journey s", "p95", "p99", "HC5"));
+        for (int i = 0; i < results.size(); i++) {
+            printRow(labels.get(i), results.get(i));
+        }
+        System.out.println("HC5: most passengers delivered in any 5-minute window");
+    }
+
+    private static Result run(TrafficPattern pattern, long seed, long minutes,
+                              ElevatorSelectionStrategy strategy, boolean batchDispatch) {
+        Building.Builder builder = newBuilder().selectionStrategy(strategy);
+        if (batchDispatch) {
+            builder.batchDispatch(BATCH_WINDOW_MS);
+        }
+        return run(pattern, seed, minutes, builder);
+    }
+
+    /**
+     * The load-test tower; callers add their strategy or other options before run(...)
+     */
+    static Building.Builder newBuilder() {
+        return new Building.Builder()
+                .name("Load Test Tower")
+                .floors(FLOORS)
+                .elevators(ELEVATORS, CAPACITY);
+    }
+
+    /**
+     * Runs the seeded traffic through a building on a fresh DiscreteEventClock
+     */
+    static Result run(TrafficPattern pattern, long seed, long minutes, Building.Builder builder) {
+        return run(pattern, seed, minutes, builder, false);
+    }
+
+    /**
+     * @param destinationDispatch Passengers request trips (Building.requestTrip) instead of pressing hall buttons
+     */
+    static Result run(TrafficPattern pattern, long seed, long minutes, Building.Builder builder,
+                      boolean destinationDispatch) {
+        TrafficGenerator generator = new TrafficGenerator(pattern, seed);
+        DiscreteEventClock clock = new DiscreteEventClock();
+        Building building = builder.clock(clock).build();
+
+        long trafficEnd = minutes * 60 * 1000;
+        List<Passenger> waiting = new ArrayList<>();
+        Map<Integer, List<Passenger>> riding = new HashMap<>();
+        for (Elevator elevator : building.getElevators()) {
+            riding.put(elevator.getId(), new ArrayList<>());
+        }
+        Result result = new Result();
+
+        clock.attach();
+        building.start();
+        try {
+            long nextArrival = generator.nextGapMillis();
+            while (true) {
+                clock.sleep(SAMPLE_INTERVAL_MS);
+                long now = clock.currentTimeMillis();
+
+                while (nextArrival <= now && nextArrival < trafficEnd) {
+                    Passenger passenger = generator.nextPassenger(nextArrival);
+                    waiting.add(passenger);
+                    result.generated++;
+                    nextArrival += generator.nextGapMillis();
+                }
+
+                exchangePassengers(building, waiting, riding, result, now);
+                if (destinationDispatch) {
+                    requestTrips(building, waiting);
+                } else {
+                    pressHallButtons(building, waiting);
+                }
+
+                boolean idle = waiting.isEmpty();
+                for (List<Passenger> riders : riding.values()) {
+                    idle &= riders.isEmpty();
+                }
+                if (now >= trafficEnd && (idle || now >= trafficEnd + DRAIN_LIMIT_MS)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            building.stop();
+            clock.detach();
+        }
+        for (Elevator elevator : building.getElevators()) {
+            result.floorsTravelled += elevator.getFloorsTravelled();
+            result.stopsMade += elevator.getStopsMade();
+        }
+        result.reassignedHallCalls = building.getReassignedHallCalls();
+        return result;
+    }
+
+    /**
+     * Lets riders leave and waiting passengers board every car standing open
+     */
+    static void exchangePassengers(Building building, List<Passenger> waiting,
+                                           Map<Integer, List<Passenger>> riding, Result result, long now) {
+        for (Elevator elevator : building.getElevators()) {
+            ElevatorSnapshot car = elevator.getSnapshot();
+            if (car.getState() != ElevatorState.DOOR_OPEN) {
+                continue;
+            }
+            int floor = car.getCurrentFloor();
+            List<Passenger> riders = riding.get(car.getElevatorId());
+
+            Iterator<Passenger> leaving = riders.iterator();
+            while (leaving.hasNext()) {
+                Passenger passenger = leaving.next();
+                if (passenger.getDestinationFloor() == floor) {
+                    passenger.alight(now);
+                    result.delivered.add(passenger);
+                    leaving.remove();
+                }
+            }
+
+            Iterator<Passenger> boarding = waiting.iterator();
+            while (boarding.hasNext()) {
+                Passenger passenger = boarding.next();
+                if (passenger.getOriginFloor() != floor || !suits(car, passenger)) {
+                    continue;
+                }
+                if (!building.boardElevator(car.getElevatorId(), passenger.getDestinationFloor())) {
+                    break; // Full
+                }
+                passenger.board(car.getElevatorId(), now);
+                riders.add(passenger);
+                boarding.remove();
+            }
+        }
+    }
+
+    // A passenger given a car by destination dispatch only boards that car
+    private static boolean suits(ElevatorSnapshot car, Passenger passenger) {
+        if (passenger.getAssignedElevatorId() != Passenger.NOT_ASSIGNED) {
+            return passenger.getAssignedElevatorId() == car.getElevatorId();
+        }
+        return headingFor(car, passenger.getDirection());
+    }
+
+    /**
+     * A car suits a passenger when it is idle, already travelling their way,
+     * or has nothing left to serve further in its current direction
+     */
+    private static boolean headingFor(ElevatorSnapshot car, Direction direction) {
+        Direction carDirection = car.getDirection();
+        if (carDirection == Direction.IDLE || carDirection == direction) {
+            return true;
+        }
+        int floor = car.getCurrentFloor();
+        if (carDirection == Direction.UP) {
+            return car.getUpDestinations().nextSetFloor(floor + 1) == FloorSet.NONE;
+        }
+        return car.getDownDestinations().previousSetFloor(floor - 1) == FloorSet.NONE;
+    }
+
+    // Coalesced by the hall panel, so pressing a lit button again is harmless
+    static void pressHallButtons(Building building, List<Passenger> waiting) {
+        for (Passenger passenger : waiting) {
+            if (passenger.getDirection() == Direction.UP) {
+                building.requestElevatorUp(passenger.getOriginFloor());
+            } else {
+                building.requestElevatorDown(passenger.getOriginFloor());
+            }
+        }
+    }
+
+    /**
+     * Destination dispatch: every passenger without a car, or whose car left without them
+     * (full, or its stop withdrawn), enters their trip at the hall terminal
+     */
+    static void requestTrips(Building building, List<Passenger> waiting) {
+        for (Passenger passenger : waiting) {
+            int assigned = passenger.getAssignedElevatorId();
+            if (assigned != Passenger.NOT_ASSIGNED && isComingFor(building.getElevatorById(assigned), passenger)) {
+                continue;
+            }
+            int elevatorId = building.requestTrip(passenger.getOriginFloor(), passenger.getDestinationFloor());
+            passenger.assign(elevatorId >= 0 ? elevatorId : Passenger.NOT_ASSIGNED);
+        }
+    }
+
+    private static boolean isComingFor(Elevator elevator, Passenger passenger) {
+        ElevatorSnapshot car = elevator.getSnapshot();
+        int floor = passenger.getOriginFloor();
+        return car.hasStopAt(floor) || (car.getCurrentFloor() == floor && car.getState() == ElevatorState.DOOR_OPEN);
+    }
+
+    private static void printRow(String label, Result result) {
+        List<Long> waits = new ArrayList<>();
+        List<Long> journeys = new ArrayList<>();
+        List<Long> alightTimes = new ArrayList<>();
+        for (Passenger passenger : result.delivered) {
+            waits.add(passenger.getWaitMillis());
+            journeys.add(passenger.getJourneyMillis());
+            alightTimes.add(passenger.getAlightMillis());
+        }
+        Collections.sort(waits);
+        Collections.sort(journeys);
+        Collections.sort(alightTimes);
+
+        System.out.println(String.format("%-18s %4d/%-4d %7.1f %7.1f %7.1f %9.1f %9.1f %9.1f %6d",
+                label, result.delivered.size(), result.generated,
+                average(waits) / 1000.0, percentile(waits, 0.95) / 1000.0, percentile(waits, 0.99) / 1000.0,
+                average(journeys) / 1000.0, percentile(journeys, 0.95) / 1000.0,
+                percentile(journeys, 0.99) / 1000.0, handlingCapacity(alightTimes)));
+    }
+
+    static double average(List<Long> sorted) {
+        double sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+        return sorted.isEmpty() ? 0 : sum / sorted.size();
+    }
+
+    static long percentile(List<Long> sorted, double quantile) {
+        return sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(quantile * sorted.size()) - 1);
+    }
+
+    // Sliding window over sorted delivery times
+    static int handlingCapacity(List<Long> sortedAlightTimes) {
+        int best = 0;
+        int start = 0;
+        for (int end = 0; end < sortedAlightTimes.size(); end++) {
+            while (sortedAlightTimes.get(end) - sortedAlightTimes.get(start) >= HANDLING_WINDOW_MS) {
+                start++;
+            }
+            best = Math.max(best, end - start + 1);
+        }
+        return best;
+    }
+
+    static class Result {
+        final List<Passenger> delivered = new ArrayList<>();
+        int generated;
+        long floorsTravelled; // All cars together
+        long stopsMade; // Door openings, all cars together
+        long reassignedHallCalls;
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.simulation;
+
+import org.example.clock.DiscreteEventClock;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.models.Building;
+import org.example.models.Elevator;
+import org.example.strategy.DemandPredictiveParkingPolicy;
+import org.example.strategy.NearestElevatorStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares waiting times with and without demand-predictive idle parking
+ *
+ * Runs the same seeded passengers through several identical office days on a
+ * DiscreteEventClock: quiet nights, a morning up-peak, lunch, an evening
+ * down-peak and inter-floor traffic in between. The first day only trains the
+ * parking policy's histogram; waits are reported for the days after it.
+ * Passengers board and alight as in LoadTestHarness.
+ *
+ * Usage: ParkingSimulation [seed] [days]
+ */
+public class ParkingSimulation {
+    private static final long HOUR_MS = 60L * 60 * 1000;
+    private static final long DAY_MS = 24 * HOUR_MS;
+    private static final long SAMPLE_INTERVAL_MS = 100;
+    private static final int FLOORS = 20;
+    private static final int ELEVATORS = 4;
+    private static final int CAPACITY = 10;
+    private static final int WARM_UP_DAYS = 1;
+
+    // One office day: start hour, traffic pattern and passengers per minute until the next entry
+    private static final int[] SEGMENT_START_HOURS = {0, 7, 8, 9, 12, 13, 17, 18, 19};
+    private static final String[] SEGMENT_PATTERNS = {"inter-floor", "up-peak", "up-peak", "inter-floor",
+            "lunch", "inter-floor", "down-peak", "down-peak", "inter-floor"};
+    private static final double[] SEGMENT_RATES = {0.2, 6, 12, 3, 8, 3, 12, 5, 0.3};
+
+    public static void main(String[] args) {
+        EventLog.setLevel(LogLevel.WARN);
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 7L;
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        if (days <= WARM_UP_DAYS) {
+            throw new IllegalArgumentException("Need more than " + WARM_UP_DAYS + " day(s) to measure anything");
+        }
+
+        LoadTestHarness.Result withoutParking = run(seed, days, false);
+        LoadTestHarness.Result withParking = run(seed, days, true);
+
+        System.out.println("\n=== Idle Parking: " + days + " office days, seed " + seed
+                + " (day 1 is warm-up) ===");
+        System.out.println(String.format("%-22s %11s %7s %7s %7s %13s",
+                "parking", "delivered", "wait s", "p95", "p99", "07-09 wait s"));
+        printRow("Stay where stopped", withoutParking);
+        printRow("Demand-predictive", withParking);
+    }
+
+    private static LoadTestHarness.Result run(long seed, int days, boolean parking) {
+        DiscreteEventClock clock = new DiscreteEventClock();
+        Building.Builder builder = new Building.Builder()
+                .name("Parking Tower")
+                .floors(FLOORS)
+                .elevators(ELEVATORS, CAPACITY)
+                .selectionStrategy(new NearestElevatorStrategy())
+                .clock(clock);
+        if (parking) {
+            builder.parkingPolicy(new DemandPredictiveParkingPolicy(FLOORS));
+        }
+        Building building = builder.build();
+
+        List<Passenger> arrivals = generateArrivals(seed, days);
+        List<Passenger> waiting = new ArrayList<>();
+        Map<Integer, List<Passenger>> riding = new HashMap<>();
+        for (Elevator elevator : building.getElevators()) {
+            riding.put(elevator.getId(), new ArrayList<>());
+        }
+        LoadTestHarness.Result result = new LoadTestHarness.Result();
+
+        clock.attach();
+        building.start();
+        try {
+            int next = 0;
+            while (next < arrivals.size() || !isEmpty(waiting, riding)) {
+                // Skip quiet gaps in one step; cars keep moving (and parking) on the shared clock meanwhile
+                long now = clock.currentTimeMillis();
+                if (isEmpty(waiting, riding) && arrivals.get(next).getArrivalMillis() > now + SAMPLE_INTERVAL_MS) {
+                    clock.sleep(arrivals.get(next).getArrivalMillis() - now);
+                } else {
+                    clock.sleep(SAMPLE_INTERVAL_MS);
+                }
+                now = clock.currentTimeMillis();
+
+                while (next < arrivals.size() && arrivals.get(next).getArrivalMillis() <= now) {
+                    Passenger passenger = arrivals.get(next++);
+                    waiting.add(passenger);
+                    if (passenger.getArrivalMillis() >= WARM_UP_DAYS * DAY_MS) {
+                        result.generated++; // Counted over the measured days only
+                    }
+                }
+                LoadTestHarness.exchangePassengers(building, waiting, riding, result, now);
+                LoadTestHarness.pressHallButtons(building, waiting);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            building.stop();
+            clock.detach();
+        }
+        return result;
+    }
+
+    /**
+     * Poisson arrivals per segment of each day, every segment from its own seeded generator
+     */
+    private static List<Passenger> generateArrivals(long seed, int days) {
+        Random seeds = new Random(seed);
+        List<Passenger> arrivals = new ArrayList<>();
+        int passengerId = 0;
+        for (int day = 0; day < days; day++) {
+            for (int segment = 0; segment < SEGMENT_START_HOURS.length; segment++) {
+                long start = day * DAY_MS + SEGMENT_START_HOURS[segment] * HOUR_MS;
+                long end = segment + 1 < SEGMENT_START_HOURS.length
+                        ? day * DAY_MS + SEGMENT_START_HOURS[segment + 1] * HOUR_MS : (day + 1) * DAY_MS;
+                TrafficPattern pattern = TrafficPattern.named(SEGMENT_PATTERNS[segment], FLOORS,
+                        SEGMENT_RATES[segment]);
+                TrafficGenerator generator = new TrafficGenerator(pattern, seeds.nextLong());
+                for (long at = start + generator.nextGapMillis(); at < end; at += generator.nextGapMillis()) {
+                    Passenger sampled = generator.nextPassenger(at);
+                    arrivals.add(new Passenger(passengerId++, sampled.getOriginFloor(),
+                            sampled.getDestinationFloor(), at));
+                }
+            }
+        }
+        return arrivals;
+    }
+
+    private static boolean isEmpty(List<Passenger> waiting, Map<Integer, List<Passenger>> riding) {
+        if (!waiting.isEmpty()) {
+            return false;
+        }
+        for (List<Passenger> riders : riding.values()) {
+            if (!riders.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void printRow(String label, LoadTestHarness.Result result) {
+        List<Long> waits = new ArrayList<>();
+        List<Long> upPeakWaits = new ArrayList<>();
+        int measured = 0;
+        for (Passenger passenger : result.delivered) {
+            long arrival = passenger.getArrivalMillis();
+            if (arrival < WARM_UP_DAYS * DAY_MS) {
+                continue;
+            }
+            measured++;
+            waits.add(passenger.getWaitMillis());
+            long timeOfDay = arrival % DAY_MS;
+            if (timeOfDay >= 7 * HOUR_MS && timeOfDay < 9 * HOUR_MS) {
+                upPeakWaits.add(passenger.getWaitMillis());
+            }
+        }
+        Collections.sort(waits);
+
+        System.out.println(String.format("%-22s %5d/%-5d %7.1f %7.1f %7.1f %13.1f",
+                label, measured, result.generated, LoadTestHarness.average(waits) / 1000.0,
+                LoadTestHarness.percentile(waits, 0.95) / 1000.0, LoadTestHarness.percentile(waits, 0.99) / 1000.0,
+                LoadTestHarness.average(upPeakWaits) / 1000.0));
+    }
+}
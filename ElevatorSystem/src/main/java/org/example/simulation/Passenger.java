@@ -0,0 +1,110 @@
+package org.example.simulation;
+
+import org.example.enums.Direction;
+
+/**
+ * One simulated passenger, tracked from arrival at the hall to leaving the car
+ */
+public class Passenger {
+    private static final long NOT_YET = -1;
+    public static final int NOT_ASSIGNED = -1;
+
+    private final int id;
+    private final int originFloor;
+    private final int destinationFloor;
+    private final long arrivalMillis;
+    private long boardMillis = NOT_YET;
+    private long alightMillis = NOT_YET;
+    private int elevatorId;
+    private int assignedElevatorId = NOT_ASSIGNED; // Destination dispatch: the car to wait for
+
+    public Passenger(int id, int originFloor, int destinationFloor, long arrivalMillis) {
+        if (originFloor == destinationFloor) {
+            throw new IllegalArgumentException("Passenger must travel to another floor");
+        }
+        this.id = id;
+        this.originFloor = originFloor;
+        this.destinationFloor = destinationFloor;
+        this.arrivalMillis = arrivalMillis;
+    }
+
+    /**
+     * Destination dispatch told the passenger which car to take (NOT_ASSIGNED if none)
+     */
+    public void assign(int elevatorId) {
+        this.assignedElevatorId = elevatorId;
+    }
+
+    public void board(int elevatorId, long nowMillis) {
+        this.elevatorId = elevatorId;
+        this.boardMillis = nowMillis;
+    }
+
+    public void alight(long nowMillis) {
+        this.alightMillis = nowMillis;
+    }
+
+    public Direction getDirection() {
+        return destinationFloor > originFloor ? Direction.UP : Direction.DOWN;
+    }
+
+    public boolean hasBoarded() {
+        return boardMillis != NOT_YET;
+    }
+
+    public boolean hasArrived() {
+        return alightMillis != NOT_YET;
+    }
+
+    /**
+     * @return Time from pressing the hall button to boarding
+     */
+    public long getWaitMillis() {
+        return boardMillis - arrivalMillis;
+    }
+
+    /**
+     * @return Time from pressing the hall button to leaving the car
+     */
+    public long getJourneyMillis() {
+        return alightMillis - arrivalMillis;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getOriginFloor() {
+        return originFloor;
+    }
+
+    public int getDestinationFloor() {
+        return destinationFloor;
+    }
+
+    public long getArrivalMillis() {
+        return arrivalMillis;
+    }
+
+    public long getAlightMillis() {
+        return alightMillis;
+    }
+
+    public int getElevatorId() {
+        return elevatorId;
+    }
+
+    public int getAssignedElevatorId() {
+        return assignedElevatorId;
+    }
+
+    @Override
+    public String toString() {
+        return "Passenger{" +
+                "id=" + id +
+                ", from=" + originFloor +
+                ", to=" + destinationFloor +
+                ", arrival=" + arrivalMillis + "ms" +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.simulation;
+
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.models.Building;
+import org.example.strategy.ElevatorSelectionStrategy;
+import org.example.strategy.EstimatedTimeOfArrivalStrategy;
+import org.example.strategy.NearestElevatorStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compares final hall-call assignments with periodic reallocation on identical LoadTestHarness traffic
+ * With reallocation the dispatcher re-scores waiting calls every REALLOCATION_INTERVAL_MS
+ * and moves a call when another car beats the assigned one by the hysteresis margin.
+ *
+ * Usage: ReallocationSimulation [up-peak|down-peak|lunch|inter-floor|all] [seed] [minutes] [passengersPerMinute] [hysteresis]
+ */
+public class ReallocationSimulation {
+    private static final String[] PATTERNS = {"up-peak", "down-peak", "lunch", "inter-floor"};
+    private static final long REALLOCATION_INTERVAL_MS = 1000;
+
+    public static void main(String[] args) {
+        EventLog.setLevel(LogLevel.WARN);
+        String patternName = args.length > 0 ? args[0] : "all";
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 7L;
+        long minutes = args.length > 2 ? Long.parseLong(args[2]) : 30L;
+        double passengersPerMinute = args.length > 3 ? Double.parseDouble(args[3]) : 30.0;
+        double hysteresis = args.length > 4 ? Double.parseDouble(args[4]) : 0.3;
+
+        String[] patterns = patternName.equals("all") ? PATTERNS : new String[] {patternName};
+        for (String name : patterns) {
+            TrafficPattern pattern = TrafficPattern.named(name, LoadTestHarness.FLOORS, passengersPerMinute);
+            System.out.println("\n=== Reallocation: " + pattern.getName() + ", " + passengersPerMinute
+                    + " passengers/min for " + minutes + " min, seed " + seed + ", hysteresis " + hysteresis + " ===");
+            System.out.println(String.format("%-20s %9s %7s %7s %7s %9s",
+                    "dispatch", "delivered", "wait s", "p95", "p99", "reassigned"));
+            printRow("Nearest", run(pattern, seed, minutes, new NearestElevatorStrategy(), -1));
+            printRow("Nearest + realloc", run(pattern, seed, minutes, new NearestElevatorStrategy(), hysteresis));
+            printRow("ETA", run(pattern, seed, minutes, new EstimatedTimeOfArrivalStrategy(), -1));
+            printRow("ETA + realloc", run(pattern, seed, minutes, new EstimatedTimeOfArrivalStrategy(), hysteresis));
+        }
+    }
+
+    // A negative hysteresis leaves every assignment final
+    private static LoadTestHarness.Result run(TrafficPattern pattern, long seed, long minutes,
+                                              ElevatorSelectionStrategy strategy, double hysteresis) {
+        Building.Builder builder = LoadTestHarness.newBuilder().selectionStrategy(strategy);
+        if (hysteresis >= 0) {
+            builder.reallocation(REALLOCATION_INTERVAL_MS, hysteresis);
+        }
+        return LoadTestHarness.run(pattern, seed, minutes, builder);
+    }
+
+    private static void printRow(String label, LoadTestHarness.Result result) {
+        List<Long> waits = new ArrayList<>();
+        for (Passenger passenger : result.delivered) {
+            waits.add(passenger.getWaitMillis());
+        }
+        Collections.sort(waits);
+
+        System.out.println(String.format("%-20s %4d/%-4d %7.1f %7.1f %7.1f %9d",
+                label, result.delivered.size(), result.generated, LoadTestHarness.average(waits) / 1000.0,
+                LoadTestHarness.percentile(waits, 0.95) / 1000.0, LoadTestHarness.percentile(waits, 0.99) / 1000.0,
+                result.reassignedHallCalls));
+    }
+}
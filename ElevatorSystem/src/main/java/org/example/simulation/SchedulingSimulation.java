@@ -0,0 +1,70 @@
+package org.example.simulation;
+
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.strategy.CLookPolicy;
+import org.example.strategy.LookPolicy;
+import org.example.strategy.NearestElevatorStrategy;
+import org.example.strategy.ScanPolicy;
+import org.example.strategy.ShortestSeekFirstPolicy;
+import org.example.strategy.StopSchedulingPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compares per-car stop scheduling policies on identical LoadTestHarness traffic
+ * Every car of the bank runs the same policy; dispatch is NearestElevatorStrategy
+ * throughout, so only the order in which cars serve their stops differs.
+ *
+ * Usage: SchedulingSimulation [up-peak|down-peak|lunch|inter-floor|all] [seed] [minutes] [passengersPerMinute]
+ */
+public class SchedulingSimulation {
+    private static final String[] PATTERNS = {"up-peak", "down-peak", "lunch", "inter-floor"};
+
+    public static void main(String[] args) {
+        EventLog.setLevel(LogLevel.WARN);
+        String patternName = args.length > 0 ? args[0] : "all";
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 7L;
+        long minutes = args.length > 2 ? Long.parseLong(args[2]) : 30L;
+        double passengersPerMinute = args.length > 3 ? Double.parseDouble(args[3]) : 20.0;
+
+        String[] patterns = patternName.equals("all") ? PATTERNS : new String[] {patternName};
+        for (String name : patterns) {
+            TrafficPattern pattern = TrafficPattern.named(name, LoadTestHarness.FLOORS, passengersPerMinute);
+            System.out.println("\n=== Stop Scheduling: " + pattern.getName() + ", " + passengersPerMinute
+                    + " passengers/min for " + minutes + " min, seed " + seed + " ===");
+            System.out.println(String.format("%-18s %9s %7s %9s %7s %7s %8s",
+                    "policy", "delivered", "wait s", "journey s", "p95", "p99", "floors"));
+            printRow("LOOK", run(pattern, seed, minutes, new LookPolicy()));
+            printRow("SCAN", run(pattern, seed, minutes, new ScanPolicy()));
+            printRow("C-LOOK", run(pattern, seed, minutes, new CLookPolicy()));
+            printRow("Shortest seek", run(pattern, seed, minutes, new ShortestSeekFirstPolicy()));
+        }
+        System.out.println("floors: floors travelled by all cars together");
+    }
+
+    private static LoadTestHarness.Result run(TrafficPattern pattern, long seed, long minutes,
+                                              StopSchedulingPolicy policy) {
+        return LoadTestHarness.run(pattern, seed, minutes, LoadTestHarness.newBuilder()
+                .selectionStrategy(new NearestElevatorStrategy())
+                .stopScheduling(policy));
+    }
+
+    private static void printRow(String label, LoadTestHarness.Result result) {
+        List<Long> waits = new ArrayList<>();
+        List<Long> journeys = new ArrayList<>();
+        for (Passenger passenger : result.delivered) {
+            waits.add(passenger.getWaitMillis());
+            journeys.add(passenger.getJourneyMillis());
+        }
+        Collections.sort(journeys);
+
+        System.out.println(String.format("%-18s %4d/%-4d %7.1f %9.1f %7.1f %7.1f %8d",
+                label, result.delivered.size(), result.generated,
+                LoadTestHarness.average(waits) / 1000.0, LoadTestHarness.average(journeys) / 1000.0,
+                LoadTestHarness.percentile(journeys, 0.95) / 1000.0,
+                LoadTestHarness.percentile(journeys, 0.99) / 1000.0, result.floorsTravelled));
+    }
+}
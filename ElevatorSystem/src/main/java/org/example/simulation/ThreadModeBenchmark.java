@@ -0,0 +1,102 @@
+package org.example.simulation;
+
+import org.example.controller.ControllerThreadFactory;
+import org.example.enums.LogLevel;
+import org.example.enums.ThreadMode;
+import org.example.logging.EventLog;
+import org.example.models.Building;
+import org.example.models.Elevator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares platform and virtual controller threads at 10, 100 and 1,000 elevators
+ *
+ * Every car gets one car call to floor 5 on the real-time clock, so the ideal
+ * makespan is 5 floors of travel plus one door cycle and dwell (8 s).
+ * Reports start-up time, makespan, peak OS threads and heap growth.
+ * Virtual rows are skipped when the runtime is older than Java 21.
+ */
+public class ThreadModeBenchmark {
+    private static final int[] FLEET_SIZES = {10, 100, 1000};
+    private static final int FLOORS = 10;
+    private static final int TARGET_FLOOR = 5;
+    private static final long IDEAL_MAKESPAN_MS = TARGET_FLOOR * 1000L + 500 + 2000 + 500;
+
+    public static void main(String[] args) throws InterruptedException {
+        EventLog.setLevel(LogLevel.WARN);
+        List<String> rows = new ArrayList<>();
+        for (int fleetSize : FLEET_SIZES) {
+            for (ThreadMode mode : ThreadMode.values()) {
+                if (mode == ThreadMode.VIRTUAL && !ControllerThreadFactory.isVirtualThreadSupported()) {
+                    rows.add(String.format("%-9s %6d   skipped (requires Java 21+)", mode, fleetSize));
+                    continue;
+                }
+                rows.add(run(mode, fleetSize));
+            }
+        }
+
+        System.out.println("\n=== Thread Mode Benchmark ===");
+        System.out.println(String.format("%-9s %6s %10s %12s %10s %12s %10s",
+                "mode", "cars", "start ms", "makespan ms", "overhead", "peak OS thr", "heap MB"));
+        for (String row : rows) {
+            System.out.println(row);
+        }
+    }
+
+    private static String run(ThreadMode mode, int fleetSize) throws InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        System.gc();
+        long heapBefore = usedHeap();
+        threads.resetPeakThreadCount();
+
+        Building building = new Building.Builder()
+                .name("Benchmark " + mode + " x" + fleetSize)
+                .floors(FLOORS)
+                .elevators(fleetSize, 10)
+                .threadMode(mode)
+                .build();
+
+        long begin = System.nanoTime();
+        building.start();
+        long startMillis = (System.nanoTime() - begin) / 1_000_000L;
+
+        long callsPlaced = System.nanoTime();
+        for (Elevator elevator : building.getElevators()) {
+            building.selectFloorInElevator(elevator.getId(), TARGET_FLOOR);
+        }
+        long heapGrowth = usedHeap() - heapBefore;
+
+        while (!allArrived(building)) {
+            Thread.sleep(10);
+        }
+        long makespanMillis = (System.nanoTime() - callsPlaced) / 1_000_000L;
+        int peakThreads = threads.getPeakThreadCount();
+
+        building.stop();
+        Thread.sleep(500); // Let interrupted controllers exit before the next run
+
+        return String.format("%-9s %6d %10d %12d %9d%% %12d %10.1f",
+                mode, fleetSize, startMillis, makespanMillis,
+                (makespanMillis - IDEAL_MAKESPAN_MS) * 100 / IDEAL_MAKESPAN_MS,
+                peakThreads, heapGrowth / (1024.0 * 1024.0));
+    }
+
+    private static boolean allArrived(Building building) {
+        for (Elevator elevator : building.getElevators()) {
+            if (elevator.getCurrentFloor() != TARGET_FLOOR || elevator.hasDestinations()
+                    || !elevator.getDoor().isClosed()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.simulation;
+
+import java.util.Random;
+
+/**
+ * Poisson passenger arrivals drawn from a TrafficPattern
+ * The same seed always yields the same passengers, so strategies can be
+ * compared on identical traffic.
+ */
+public class TrafficGenerator {
+    private final TrafficPattern pattern;
+    private final Random random;
+    private final double meanGapMillis;
+    private int nextPassengerId;
+
+    public TrafficGenerator(TrafficPattern pattern, long seed) {
+        this.pattern = pattern;
+        this.random = new Random(seed);
+        this.meanGapMillis = 60_000.0 / pattern.getPassengersPerMinute();
+    }
+
+    /**
+     * @return Exponentially distributed time until the next arrival
+     */
+    public long nextGapMillis() {
+        return 1 + (long) (-Math.log(1 - random.nextDouble()) * meanGapMillis);
+    }
+
+    public Passenger nextPassenger(long arrivalMillis) {
+        int trip = pattern.sampleTrip(random.nextDouble());
+        int floors = pattern.getNumberOfFloors();
+        return new Passenger(nextPassengerId++, trip / floors, trip % floors, arrivalMillis);
+    }
+
+    public TrafficPattern getPattern() {
+        return pattern;
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.simulation;
+
+/**
+ * Passenger demand: an arrival rate plus an origin/destination matrix
+ * Entry [origin][destination] is the relative weight of that trip; the
+ * diagonal is ignored. Factory methods cover the classic office-building peaks.
+ */
+public class TrafficPattern {
+    private static final int LOBBY = 0;
+
+    private final String name;
+    private final int numberOfFloors;
+    private final double passengersPerMinute;
+    private final double[] cumulativeWeights; // Flattened origin * floors + destination
+
+    public TrafficPattern(String name, double passengersPerMinute, double[][] originDestination) {
+        if (passengersPerMinute <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        this.name = name;
+        this.numberOfFloors = originDestination.length;
+        this.passengersPerMinute = passengersPerMinute;
+        this.cumulativeWeights = new double[numberOfFloors * numberOfFloors];
+
+        double total = 0;
+        for (int origin = 0; origin < numberOfFloors; origin++) {
+            if (originDestination[origin].length != numberOfFloors) {
+                throw new IllegalArgumentException("Origin/destination matrix must be square");
+            }
+            for (int destination = 0; destination < numberOfFloors; destination++) {
+                double weight = originDestination[origin][destination];
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Trip weights must be non-negative");
+                }
+                if (origin != destination) {
+                    total += weight;
+                }
+                cumulativeWeights[origin * numberOfFloors + destination] = total;
+            }
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Origin/destination matrix has no trips");
+        }
+    }
+
+    /**
+     * Morning: most passengers travel from the lobby to the upper floors
+     */
+    public static TrafficPattern upPeak(int floors, double passengersPerMinute) {
+        return mix("up-peak", floors, passengersPerMinute, 0.85, 0.05);
+    }
+
+    /**
+     * Evening: most passengers travel from the upper floors down to the lobby
+     */
+    public static TrafficPattern downPeak(int floors, double passengersPerMinute) {
+        return mix("down-peak", floors, passengersPerMinute, 0.05, 0.85);
+    }
+
+    /**
+     * Lunch: heavy two-way traffic to and from the lobby
+     */
+    public static TrafficPattern lunch(int floors, double passengersPerMinute) {
+        return mix("lunch", floors, passengersPerMinute, 0.4, 0.4);
+    }
+
+    /**
+     * Mid-day: trips between random upper floors
+     */
+    public static TrafficPattern interFloor(int floors, double passengersPerMinute) {
+        return mix("inter-floor", floors, passengersPerMinute, 0.1, 0.1);
+    }
+
+    /**
+     * @param name One of up-peak, down-peak, lunch or inter-floor
+     */
+    public static TrafficPattern named(String name, int floors, double passengersPerMinute) {
+        switch (name) {
+            case "up-peak":
+                return upPeak(floors, passengersPerMinute);
+            case "down-peak":
+                return downPeak(floors, passengersPerMinute);
+            case "lunch":
+                return lunch(floors, passengersPerMinute);
+            case "inter-floor":
+                return interFloor(floors, passengersPerMinute);
+            default:
+                throw new IllegalArgumentException("Unknown traffic pattern: " + name);
+        }
+    }
+
+    /**
+     * Splits demand into lobby departures, lobby arrivals and the remaining
+     * inter-floor trips, each spread evenly over the upper floors
+     */
+    private static TrafficPattern mix(String name, int floors, double passengersPerMinute,
+                                      double fromLobby, double toLobby) {
+        if (floors < 3) {
+            throw new IllegalArgumentException("Traffic patterns need at least three floors");
+        }
+        int upperFloors = floors - 1;
+        double interFloor = 1 - fromLobby - toLobby;
+        double[][] matrix = new double[floors][floors];
+        for (int floor = 1; floor < floors; floor++) {
+            matrix[LOBBY][floor] = fromLobby / upperFloors;
+            matrix[floor][LOBBY] = toLobby / upperFloors;
+            for (int other = 1; other < floors; other++) {
+                if (other != floor) {
+                    matrix[floor][other] = interFloor / (upperFloors * (upperFloors - 1));
+                }
+            }
+        }
+        return new TrafficPattern(name, passengersPerMinute, matrix);
+    }
+
+    /**
+     * @param uniform Random number in [0, 1)
+     * @return Trip index origin * floors + destination
+     */
+    int sampleTrip(double uniform) {
+        double target = uniform * cumulativeWeights[cumulativeWeights.length - 1];
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulativeWeights[middle] <= target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getNumberOfFloors() {
+        return numberOfFloors;
+    }
+
+    public double getPassengersPerMinute() {
+        return passengersPerMinute;
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.simulation;
+
+import org.example.clock.DiscreteEventClock;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.metrics.HistogramSnapshot;
+import org.example.models.Building;
+import org.example.models.ElevatorZone;
+import org.example.strategy.EstimatedTimeOfArrivalStrategy;
+
+import java.util.Random;
+
+/**
+ * Compares one bank serving a tall building with the same cars split into zones
+ *
+ * The zoned tower has low- and mid-rise banks from the ground floor, an express
+ * shuttle to a sky lobby and a high-rise bank above it, each dispatching on its
+ * own thread over its own cars. Both towers get the same seeded hall calls of a
+ * busy office hour; the zoned tower learns each caller's destination, so a trip
+ * above the sky lobby calls the shuttle. Like DaySimulation, calls are hall
+ * calls only: the transfer leg is not simulated.
+ *
+ * Usage: ZoneSimulation [seed] [callsPerMinute]
+ */
+public class ZoneSimulation {
+    private static final long HOUR_MS = 60L * 60 * 1000;
+    private static final int FLOORS = 46;
+    private static final int LOBBY = 0;
+    private static final int SKY_LOBBY = 30;
+    private static final int CAPACITY = 16;
+
+    public static void main(String[] args) {
+        EventLog.setLevel(LogLevel.WARN);
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 7L;
+        double callsPerMinute = args.length > 1 ? Double.parseDouble(args[1]) : 6.0;
+
+        Building.Builder single = newBuilder("Single Bank Tower")
+                .elevators(14, CAPACITY);
+        Building.Builder zoned = newBuilder("Zoned Tower")
+                .zone(ElevatorZone.rise("low", LOBBY, 1, 15, 4, CAPACITY))
+                .zone(ElevatorZone.rise("mid", LOBBY, 16, SKY_LOBBY - 1, 4, CAPACITY))
+                .zone(ElevatorZone.shuttle("shuttle", LOBBY, SKY_LOBBY, 2, CAPACITY))
+                .zone(ElevatorZone.rise("high", SKY_LOBBY, SKY_LOBBY + 1, FLOORS - 1, 4, CAPACITY));
+
+        System.out.println("\n=== Zoning: " + FLOORS + " floors, 14 cars, " + callsPerMinute
+                + " hall calls/min for 1 h, seed " + seed + " ===");
+        System.out.println(String.format("%-18s %6s %8s %8s %8s %12s %10s",
+                "building", "calls", "wait s", "p95", "p99", "dispatch us", "wall ms"));
+        run("Single bank", single, seed, callsPerMinute, false);
+        run("4 zones", zoned, seed, callsPerMinute, true);
+        System.out.println("dispatch us: mean real time per selection decision");
+    }
+
+    private static Building.Builder newBuilder(String name) {
+        return new Building.Builder()
+                .name(name)
+                .floors(FLOORS)
+                .selectionStrategy(new EstimatedTimeOfArrivalStrategy());
+    }
+
+    private static void run(String label, Building.Builder builder, long seed, double callsPerMinute,
+                            boolean withDestination) {
+        Random random = new Random(seed);
+        DiscreteEventClock clock = new DiscreteEventClock();
+        Building building = builder.clock(clock).build();
+        double meanGapMillis = 60_000.0 / callsPerMinute;
+
+        long wallStart = System.nanoTime();
+        int calls = 0;
+        clock.attach();
+        building.start();
+        try {
+            while (true) {
+                clock.sleep(1 + (long) (-Math.log(1 - random.nextDouble()) * meanGapMillis));
+                if (clock.currentTimeMillis() >= HOUR_MS) {
+                    break;
+                }
+                placeCall(building, random, withDestination);
+                calls++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            building.stop();
+            clock.detach();
+        }
+        long wallMillis = (System.nanoTime() - wallStart) / 1_000_000L;
+
+        HistogramSnapshot waits = building.getWaitTimeSnapshot();
+        HistogramSnapshot dispatch = building.getDispatchLatencySnapshot();
+        System.out.println(String.format("%-18s %6d %8.1f %8.1f %8.1f %12.1f %10d",
+                label, calls, waits.getMeanNanos() / 1e9, waits.getP95Nanos() / 1e9, waits.getP99Nanos() / 1e9,
+                dispatch.getMeanNanos() / 1e3, wallMillis));
+    }
+
+    // Half the trips leave the lobby, a third return to it, the rest are between upper floors
+    private static void placeCall(Building building, Random random, boolean withDestination) {
+        int roll = random.nextInt(6);
+        int origin;
+        int destination;
+        if (roll < 3) {
+            origin = LOBBY;
+            destination = 1 + random.nextInt(FLOORS - 1);
+        } else if (roll < 5) {
+            origin = 1 + random.nextInt(FLOORS - 1);
+            destination = LOBBY;
+        } else {
+            origin = 1 + random.nextInt(FLOORS - 1);
+            destination = 1 + random.nextInt(FLOORS - 2);
+            if (destination >= origin) {
+                destination++;
+            }
+        }
+
+        if (withDestination) {
+            building.requestElevator(origin, destination);
+        } else if (destination > origin) {
+            building.requestElevatorUp(origin);
+        } else {
+            building.requestElevatorDown(origin);
+        }
+    }
+}
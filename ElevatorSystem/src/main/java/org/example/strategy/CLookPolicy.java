@@ -0,0 +1,38 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.FloorSet;
+
+/**
+ * Stop scheduling: C-LOOK (circular LOOK)
+ * Serves stops on upward sweeps only, in floor order whichever hall direction
+ * queued them. After the highest stop the car returns non-stop to the lowest
+ * one and sweeps up again, which evens out waits across floors.
+ */
+public class CLookPolicy implements StopSchedulingPolicy {
+
+    @Override
+    public int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down) {
+        int lowest = min(up.first(), down.first());
+        if (lowest == FloorSet.NONE) {
+            return FloorSet.NONE;
+        }
+        if (direction == Direction.DOWN && lowest < currentFloor) {
+            return lowest; // Still on the return trip
+        }
+        int above = min(up.nextSetFloor(currentFloor), down.nextSetFloor(currentFloor));
+        return above != FloorSet.NONE ? above : lowest;
+    }
+
+    @Override
+    public boolean stopsWhilePassing(int floor, Direction direction, FloorSet up, FloorSet down) {
+        return direction == Direction.UP && (up.contains(floor) || down.contains(floor));
+    }
+
+    private static int min(int floor, int other) {
+        if (floor == FloorSet.NONE) {
+            return other;
+        }
+        return other == FloorSet.NONE ? floor : Math.min(floor, other);
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.strategy;
+
+import org.example.clock.SimulationClock;
+import org.example.enums.Direction;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.FloorSet;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parking policy that sends idle cars to where calls are expected next
+ *
+ * Keeps a rolling time-of-day histogram of hall calls per floor and direction
+ * in 15-minute slots. A slot decays by DAILY_DECAY each time the day comes
+ * round to it, so it reflects roughly the last week plus today's calls so far.
+ * Expected demand over the current and next slot is then covered greedily: an
+ * idle car goes to the floor that most reduces the demand-weighted distance to
+ * the nearest waiting car, counting cars already idle or parking elsewhere, so
+ * parked cars spread across the bank instead of piling onto the busiest floor.
+ */
+public class DemandPredictiveParkingPolicy implements ParkingPolicy {
+    private static final long SLOT_MILLIS = 15L * 60 * 1000;
+    private static final int SLOTS_PER_DAY = (int) (SimulationClock.DAY_MILLIS / SLOT_MILLIS);
+    private static final double DAILY_DECAY = 0.7;
+    private static final double NEXT_SLOT_WEIGHT = 0.5;
+    private static final double MIN_EXPECTED_CALLS = 1.0; // Below this there is nothing worth moving for
+    private static final double MIN_IMPROVEMENT = 0.1;    // Stay unless parking cuts expected distance by 10%
+
+    private final int numberOfFloors;
+    private final double[][] callsBySlot; // [slot][floor * 2 + direction]
+    private final Map<Integer, Integer> parkingTargets = new HashMap<>(); // Elevator id -> floor it was sent to
+    private int currentSlot = -1;
+
+    public DemandPredictiveParkingPolicy(int numberOfFloors) {
+        if (numberOfFloors <= 0) {
+            throw new IllegalArgumentException("Parking policy needs at least one floor");
+        }
+        this.numberOfFloors = numberOfFloors;
+        this.callsBySlot = new double[SLOTS_PER_DAY][numberOfFloors * 2];
+    }
+
+    @Override
+    public synchronized void recordHallCall(int floor, Direction direction, long timeOfDayMillis) {
+        if (floor < 0 || floor >= numberOfFloors) {
+            return;
+        }
+        advanceTo(slotOf(timeOfDayMillis));
+        callsBySlot[currentSlot][floor * 2 + (direction == Direction.DOWN ? 1 : 0)] += 1;
+    }
+
+    @Override
+    public synchronized int selectParkingFloor(ElevatorSnapshot car, List<ElevatorSnapshot> fleet,
+                                               long timeOfDayMillis) {
+        advanceTo(slotOf(timeOfDayMillis));
+        parkingTargets.remove(car.getElevatorId());
+
+        double[] demand = expectedDemand();
+        double totalDemand = 0;
+        for (double calls : demand) {
+            totalDemand += calls;
+        }
+        if (totalDemand < MIN_EXPECTED_CALLS) {
+            return FloorSet.NONE;
+        }
+
+        // Distance from every floor to the nearest other car that is waiting or on its way to park
+        int[] coveredWithin = new int[numberOfFloors];
+        Arrays.fill(coveredWithin, numberOfFloors);
+        for (int i = 0; i < fleet.size(); i++) {
+            ElevatorSnapshot other = fleet.get(i);
+            if (other.getElevatorId() == car.getElevatorId() || !other.isAvailable()) {
+                continue;
+            }
+            int covering = coveringFloor(other);
+            if (covering == FloorSet.NONE) {
+                continue;
+            }
+            for (int floor = 0; floor < numberOfFloors; floor++) {
+                coveredWithin[floor] = Math.min(coveredWithin[floor], Math.abs(floor - covering));
+            }
+        }
+
+        int currentFloor = car.getCurrentFloor();
+        double stayCost = expectedDistance(demand, coveredWithin, currentFloor);
+        int bestFloor = currentFloor;
+        double bestCost = stayCost;
+        for (int floor = 0; floor < numberOfFloors; floor++) {
+            double cost = expectedDistance(demand, coveredWithin, floor);
+            boolean closerTie = cost == bestCost
+                    && Math.abs(floor - currentFloor) < Math.abs(bestFloor - currentFloor);
+            if (cost < bestCost || closerTie) {
+                bestCost = cost;
+                bestFloor = floor;
+            }
+        }
+
+        if (bestFloor == currentFloor || stayCost - bestCost < MIN_IMPROVEMENT * stayCost) {
+            return FloorSet.NONE;
+        }
+        parkingTargets.put(car.getElevatorId(), bestFloor);
+        return bestFloor;
+    }
+
+    // Idle cars cover the floor they stand on; a car still travelling to its parking floor covers that floor
+    private int coveringFloor(ElevatorSnapshot other) {
+        if (other.isIdle()) {
+            return other.getCurrentFloor();
+        }
+        Integer target = parkingTargets.get(other.getElevatorId());
+        if (target != null && other.getPendingStopCount() == 1 && other.hasStopAt(target)) {
+            return target;
+        }
+        return FloorSet.NONE;
+    }
+
+    // Demand-weighted distance from each floor to the nearest car if one also waits at parkedFloor
+    private double expectedDistance(double[] demand, int[] coveredWithin, int parkedFloor) {
+        double cost = 0;
+        for (int floor = 0; floor < numberOfFloors; floor++) {
+            if (demand[floor] > 0) {
+                cost += demand[floor] * Math.min(coveredWithin[floor], Math.abs(floor - parkedFloor));
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * @return Expected calls per floor, both directions, over the current and next slot
+     */
+    private double[] expectedDemand() {
+        double[] current = callsBySlot[currentSlot];
+        double[] next = callsBySlot[(currentSlot + 1) % SLOTS_PER_DAY];
+        double[] demand = new double[numberOfFloors];
+        for (int floor = 0; floor < numberOfFloors; floor++) {
+            demand[floor] = current[floor * 2] + current[floor * 2 + 1]
+                    + NEXT_SLOT_WEIGHT * (next[floor * 2] + next[floor * 2 + 1]);
+        }
+        return demand;
+    }
+
+    // Entering a slot means a day has passed since it was last current: age its history.
+    // A caller that read the clock just before another thread moved on is one slot behind:
+    // that time belongs to the current slot, not to a day that has almost gone round.
+    private void advanceTo(int slot) {
+        if (currentSlot < 0) {
+            currentSlot = slot;
+            return;
+        }
+        if (Math.floorMod(slot - currentSlot, SLOTS_PER_DAY) == SLOTS_PER_DAY - 1) {
+            return;
+        }
+        while (currentSlot != slot) {
+            currentSlot = (currentSlot + 1) % SLOTS_PER_DAY;
+            double[] calls = callsBySlot[currentSlot];
+            for (int i = 0; i < calls.length; i++) {
+                calls[i] *= DAILY_DECAY;
+            }
+        }
+    }
+
+    private static int slotOf(long timeOfDayMillis) {
+        return (int) (Math.floorMod(timeOfDayMillis, SimulationClock.DAY_MILLIS) / SLOT_MILLIS);
+    }
+}
@@ -1,20 +1,52 @@
 package org.example.strategy;
 
-import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
 import org.example.models.Request;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Strategy Pattern: Interface for different elevator selection algorithms
  * Open/Closed Principle: Open for extension, closed for modification
+ * Strategies score immutable ElevatorSnapshots, never live cars, so every
+ * decision sees a consistent view of each car and takes no locks
  */
 public interface ElevatorSelectionStrategy {
+    /**
+     * Added to the cost of a full car (ElevatorSnapshot.isFull()), so it only
+     * wins a call when every available car is full; in the strategy's own unit
+     */
+    long FULL_CAR_PENALTY = 1_000_000;
+
     /**
      * Selects the best elevator to serve the given request
-     * @param elevators List of available elevators
+     * @param elevators Snapshots of the elevators to choose from; a random-access
+     *                  view the dispatcher reuses, so iterate it but do not keep it
      * @param request The request to be served
-     * @return The selected elevator, or null if none available
+     * @return Snapshot of the selected elevator, or null if none available
+     */
+    ElevatorSnapshot selectElevator(List<ElevatorSnapshot> elevators, Request request);
+
+    /**
+     * Cost this strategy gives one car for the request, lower is better.
+     * Explains decisions (e.g. in JFR dispatch events); it does not make them.
+     * @return NaN if the strategy does not score cars one at a time
+     */
+    default double scoreElevator(ElevatorSnapshot elevator, Request request) {
+        return Double.NaN;
+    }
+
+    /**
+     * Selects elevators for a batch of requests collected by the dispatcher.
+     * Greedy by default: each request is decided on its own, in arrival order.
+     * @return The selected elevator per request (same order), null where none available
      */
-    Elevator selectElevator(List<Elevator> elevators, Request request);
+    default List<ElevatorSnapshot> selectElevators(List<ElevatorSnapshot> elevators, List<Request> requests) {
+        List<ElevatorSnapshot> selected = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            selected.add(selectElevator(elevators, request));
+        }
+        return selected;
+    }
 }
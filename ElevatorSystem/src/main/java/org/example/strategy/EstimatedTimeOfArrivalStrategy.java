@@ -0,0 +1,65 @@
+package org.example.strategy;
+
+import org.example.enums.ElevatorState;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.FloorSet;
+import org.example.models.Request;
+
+import java.util.List;
+
+/**
+ * Strategy implementation: Selects the car whose route absorbs the call at the lowest cost
+ *
+ * For every car the committed stop sequence is replayed the way the car will
+ * actually serve it, with its own StopSchedulingPolicy and shaft range (see
+ * RouteReplay), adding per-floor travel time and a door cycle per stop. The cost
+ * of a car is the marginal added wait: the new call's arrival time plus the delay
+ * it imposes on every stop that car has already committed to.
+ * Thread-safe: each scoring thread replays into its own reused stop sets.
+ */
+public class EstimatedTimeOfArrivalStrategy implements ElevatorSelectionStrategy {
+    private final ThreadLocal<RouteReplay> routeReplays = ThreadLocal.withInitial(RouteReplay::new);
+
+    @Override
+    public ElevatorSnapshot selectElevator(List<ElevatorSnapshot> elevators, Request request) {
+        ElevatorSnapshot bestElevator = null;
+        long minCost = Long.MAX_VALUE;
+
+        for (int i = 0; i < elevators.size(); i++) {
+            ElevatorSnapshot elevator = elevators.get(i);
+            if (!elevator.isAvailable()) {
+                continue;
+            }
+
+            long cost = cost(elevator, request);
+            if (cost < minCost) {
+                minCost = cost;
+                bestElevator = elevator;
+            }
+        }
+
+        return bestElevator;
+    }
+
+    @Override
+    public double scoreElevator(ElevatorSnapshot elevator, Request request) {
+        return cost(elevator, request);
+    }
+
+    private long cost(ElevatorSnapshot elevator, Request request) {
+        long wait = marginalWaitMillis(elevator, request.getSourceFloor());
+        return elevator.isFull() ? wait + FULL_CAR_PENALTY : wait;
+    }
+
+    /**
+     * @return Total wait added across the car's stops if it also serves the given floor
+     */
+    public long marginalWaitMillis(ElevatorSnapshot elevator, int floor) {
+        if (elevator.getState() == ElevatorState.DOOR_OPEN && floor == elevator.getCurrentFloor()) {
+            return 0; // Passengers can board right away
+        }
+        RouteReplay replay = routeReplays.get();
+        long without = replay.replay(elevator, FloorSet.NONE);
+        return replay.replay(elevator, floor) - without;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Hungarian (Kuhn-Munkres) algorithm for rectangular cost matrices
+ * Assigns every row to a distinct column so that the total cost is minimal.
+ * Runs in O(rows^2 * columns) using row/column potentials.
+ */
+public final class HungarianAssignment {
+
+    private HungarianAssignment() {
+    }
+
+    /**
+     * @param cost Matrix with rows <= columns; cost[row][column]
+     * @return Column assigned to each row
+     */
+    public static int[] solve(long[][] cost) {
+        int rows = cost.length;
+        if (rows == 0) {
+            return new int[0];
+        }
+        int columns = cost[0].length;
+        if (rows > columns) {
+            throw new IllegalArgumentException("Assignment needs at least as many columns as rows");
+        }
+
+        // 1-based arrays: column 0 is a virtual start column
+        long[] rowPotential = new long[rows + 1];
+        long[] columnPotential = new long[columns + 1];
+        int[] rowOfColumn = new int[columns + 1];
+        int[] previousColumn = new int[columns + 1];
+        long[] slack = new long[columns + 1];
+        boolean[] visited = new boolean[columns + 1];
+
+        for (int row = 1; row <= rows; row++) {
+            rowOfColumn[0] = row;
+            int column = 0;
+            Arrays.fill(slack, Long.MAX_VALUE);
+            Arrays.fill(visited, false);
+
+            // Grow an alternating tree until it reaches a free column
+            do {
+                visited[column] = true;
+                int currentRow = rowOfColumn[column];
+                long delta = Long.MAX_VALUE;
+                int nextColumn = 0;
+                for (int j = 1; j <= columns; j++) {
+                    if (visited[j]) {
+                        continue;
+                    }
+                    long reduced = cost[currentRow - 1][j - 1] - rowPotential[currentRow] - columnPotential[j];
+                    if (reduced < slack[j]) {
+                        slack[j] = reduced;
+                        previousColumn[j] = column;
+                    }
+                    if (slack[j] < delta) {
+                        delta = slack[j];
+                        nextColumn = j;
+                    }
+                }
+                for (int j = 0; j <= columns; j++) {
+                    if (visited[j]) {
+                        rowPotential[rowOfColumn[j]] += delta;
+                        columnPotential[j] -= delta;
+                    } else {
+                        slack[j] -= delta;
+                    }
+                }
+                column = nextColumn;
+            } while (rowOfColumn[column] != 0);
+
+            // Flip the augmenting path
+            do {
+                int previous = previousColumn[column];
+                rowOfColumn[column] = rowOfColumn[previous];
+                column = previous;
+            } while (column != 0);
+        }
+
+        int[] assignment = new int[rows];
+        for (int j = 1; j <= columns; j++) {
+            if (rowOfColumn[j] != 0) {
+                assignment[rowOfColumn[j] - 1] = j - 1;
+            }
+        }
+        return assignment;
+    }
+}
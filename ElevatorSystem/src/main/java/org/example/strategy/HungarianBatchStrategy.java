@@ -0,0 +1,92 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.Door;
+import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.Request;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Strategy implementation: Assigns a whole batch of calls jointly
+ * Minimises the total estimated wait with the Hungarian algorithm instead of
+ * handing every call of a burst to whichever car looks nearest first.
+ *
+ * Each car offers one slot per call it may take from the batch; every extra
+ * call on the same car costs one more door cycle, which spreads bursts out.
+ * Full cars carry FULL_CAR_PENALTY, so they only take calls no other car can.
+ */
+public class HungarianBatchStrategy implements ElevatorSelectionStrategy {
+    private static final long STOP_TIME_MS = 2 * Door.TRANSITION_TIME_MS + Elevator.DWELL_TIME_MS;
+
+    @Override
+    public ElevatorSnapshot selectElevator(List<ElevatorSnapshot> elevators, Request request) {
+        return selectElevators(elevators, Collections.singletonList(request)).get(0);
+    }
+
+    @Override
+    public List<ElevatorSnapshot> selectElevators(List<ElevatorSnapshot> elevators, List<Request> requests) {
+        List<ElevatorSnapshot> available = new ArrayList<>();
+        for (int i = 0; i < elevators.size(); i++) {
+            ElevatorSnapshot elevator = elevators.get(i);
+            if (elevator.isAvailable()) {
+                available.add(elevator);
+            }
+        }
+
+        List<ElevatorSnapshot> selected = new ArrayList<>(requests.size());
+        if (available.isEmpty()) {
+            for (int i = 0; i < requests.size(); i++) {
+                selected.add(null);
+            }
+            return selected;
+        }
+
+        int slotsPerCar = (requests.size() + available.size() - 1) / available.size();
+        long[][] cost = new long[requests.size()][available.size() * slotsPerCar];
+        for (int r = 0; r < requests.size(); r++) {
+            for (int e = 0; e < available.size(); e++) {
+                long wait = estimateWaitMillis(available.get(e), requests.get(r));
+                for (int slot = 0; slot < slotsPerCar; slot++) {
+                    cost[r][e * slotsPerCar + slot] = wait + slot * STOP_TIME_MS;
+                }
+            }
+        }
+
+        int[] assignment = HungarianAssignment.solve(cost);
+        for (int column : assignment) {
+            selected.add(available.get(column / slotsPerCar));
+        }
+        return selected;
+    }
+
+    /**
+     * Per-car cost before the batch assignment, which may still pick another car
+     */
+    @Override
+    public double scoreElevator(ElevatorSnapshot elevator, Request request) {
+        return estimateWaitMillis(elevator, request);
+    }
+
+    /**
+     * Travel-time estimate: direct when the car is idle or already heading
+     * towards the call, otherwise it has to come back (twice the distance).
+     * Every stop the car has already committed to adds one door cycle.
+     */
+    protected long estimateWaitMillis(ElevatorSnapshot elevator, Request request) {
+        int elevatorFloor = elevator.getCurrentFloor();
+        int requestFloor = request.getSourceFloor();
+        long travel = Math.abs(elevatorFloor - requestFloor) * Elevator.FLOOR_TRAVEL_TIME_MS;
+        long committedStops = elevator.getPendingStopCount() * STOP_TIME_MS;
+
+        Direction direction = elevator.getDirection();
+        boolean approaching = elevator.isIdle()
+                || (direction == Direction.UP && elevatorFloor <= requestFloor)
+                || (direction == Direction.DOWN && elevatorFloor >= requestFloor);
+        long wait = (approaching ? travel : 2 * travel) + committedStops;
+        return elevator.isFull() ? wait + FULL_CAR_PENALTY : wait;
+    }
+}
@@ -1,6 +1,6 @@
 package org.example.strategy;
 
-import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
 import org.example.models.Request;
 
 import java.util.List;
@@ -12,21 +12,17 @@ import java.util.List;
 public class LeastLoadedStrategy implements ElevatorSelectionStrategy {
 
     @Override
-    public Elevator selectElevator(List<Elevator> elevators, Request request) {
-        Elevator bestElevator = null;
+    public ElevatorSnapshot selectElevator(List<ElevatorSnapshot> elevators, Request request) {
+        ElevatorSnapshot bestElevator = null;
         int minLoad = Integer.MAX_VALUE;
 
-        for (Elevator elevator : elevators) {
+        for (int i = 0; i < elevators.size(); i++) {
+            ElevatorSnapshot elevator = elevators.get(i);
             if (!elevator.isAvailable()) {
                 continue;
             }
 
-            int load = elevator.getCurrentLoad();
-            
-            // Consider distance as a secondary factor
-            int distance = Math.abs(elevator.getCurrentFloor() - request.getSourceFloor());
-            int score = load * 10 + distance; // Weighted score
-
+            int score = weightedScore(elevator, request);
             if (score < minLoad) {
                 minLoad = score;
                 bestElevator = elevator;
@@ -35,4 +31,18 @@ public class LeastLoadedStrategy implements ElevatorSelectionStrategy {
 
         return bestElevator;
     }
+
+    @Override
+    public double scoreElevator(ElevatorSnapshot elevator, Request request) {
+        return weightedScore(elevator, request);
+    }
+
+    private int weightedScore(ElevatorSnapshot elevator, Request request) {
+        int load = elevator.getCurrentLoad();
+
+        // Consider distance as a secondary factor
+        int distance = Math.abs(elevator.getCurrentFloor() - request.getSourceFloor());
+        int score = load * 10 + distance; // Weighted score
+        return elevator.isFull() ? score + (int) FULL_CAR_PENALTY : score;
+    }
 }
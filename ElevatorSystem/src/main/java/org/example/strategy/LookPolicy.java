@@ -0,0 +1,24 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.FloorSet;
+
+/**
+ * Stop scheduling: LOOK, the default
+ * Serves every stop in the current direction, then turns at the last one
+ * (not at the end of the shaft) and serves the other direction.
+ */
+public class LookPolicy implements StopSchedulingPolicy {
+
+    @Override
+    public int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down) {
+        int nextUp = up.first();
+        int nextDown = down.last();
+        if (direction == Direction.UP && nextUp != FloorSet.NONE) {
+            return nextUp;
+        } else if (direction == Direction.DOWN && nextDown != FloorSet.NONE) {
+            return nextDown;
+        }
+        return nextUp != FloorSet.NONE ? nextUp : nextDown;
+    }
+}
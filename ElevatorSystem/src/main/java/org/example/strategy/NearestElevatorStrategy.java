@@ -1,7 +1,7 @@
 package org.example.strategy;
 
 import org.example.enums.Direction;
-import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
 import org.example.models.Request;
 
 import java.util.List;
@@ -13,22 +13,17 @@ import java.util.List;
 public class NearestElevatorStrategy implements ElevatorSelectionStrategy {
 
     @Override
-    public Elevator selectElevator(List<Elevator> elevators, Request request) {
-        Elevator bestElevator = null;
+    public ElevatorSnapshot selectElevator(List<ElevatorSnapshot> elevators, Request request) {
+        ElevatorSnapshot bestElevator = null;
         int minDistance = Integer.MAX_VALUE;
 
-        for (Elevator elevator : elevators) {
+        for (int i = 0; i < elevators.size(); i++) { // Indexed: no iterator on the dispatch path
+            ElevatorSnapshot elevator = elevators.get(i);
             if (!elevator.isAvailable()) {
                 continue;
             }
 
-            int distance = calculateDistance(elevator, request);
-            
-            // Prefer elevators moving in the same direction or idle elevators
-            if (isElevatorSuitable(elevator, request)) {
-                distance = distance / 2; // Give preference by reducing effective distance
-            }
-
+            int distance = effectiveDistance(elevator, request);
             if (distance < minDistance) {
                 minDistance = distance;
                 bestElevator = elevator;
@@ -38,17 +33,32 @@ public class NearestElevatorStrategy implements ElevatorSelectionStrategy {
         return bestElevator;
     }
 
-    private int calculateDistance(Elevator elevator, Request request) {
+    @Override
+    public double scoreElevator(ElevatorSnapshot elevator, Request request) {
+        return effectiveDistance(elevator, request);
+    }
+
+    private int effectiveDistance(ElevatorSnapshot elevator, Request request) {
+        int distance = calculateDistance(elevator, request);
+
+        // Prefer elevators moving in the same direction or idle elevators
+        if (isElevatorSuitable(elevator, request)) {
+            distance = distance / 2; // Give preference by reducing effective distance
+        }
+        return elevator.isFull() ? distance + (int) FULL_CAR_PENALTY : distance;
+    }
+
+    private int calculateDistance(ElevatorSnapshot elevator, Request request) {
         return Math.abs(elevator.getCurrentFloor() - request.getSourceFloor());
     }
 
-    private boolean isElevatorSuitable(Elevator elevator, Request request) {
+    private boolean isElevatorSuitable(ElevatorSnapshot elevator, Request request) {
         // Idle elevators are always suitable
         if (elevator.isIdle()) {
             return true;
         }
 
-        Direction elevatorDirection = elevator.getCurrentDirection();
+        Direction elevatorDirection = elevator.getDirection();
         Direction requestDirection = request.getDirection();
         int elevatorFloor = elevator.getCurrentFloor();
         int requestFloor = request.getSourceFloor();
@@ -0,0 +1,25 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.ElevatorSnapshot;
+
+import java.util.List;
+
+/**
+ * Strategy Pattern: decides where an idle car should wait for its next call
+ * Called on the car's controller thread once each time the car runs out of work
+ */
+public interface ParkingPolicy {
+    /**
+     * Observes a hall call the building accepted (after coalescing)
+     * @param timeOfDayMillis Milliseconds since midnight on the building clock
+     */
+    void recordHallCall(int floor, Direction direction, long timeOfDayMillis);
+
+    /**
+     * @param car The car that just went idle
+     * @param fleet Every car in the bank, including the idle one
+     * @return Floor to park the car at, or FloorSet.NONE to leave it where it is
+     */
+    int selectParkingFloor(ElevatorSnapshot car, List<ElevatorSnapshot> fleet, long timeOfDayMillis);
+}
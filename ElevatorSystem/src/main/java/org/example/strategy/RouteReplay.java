@@ -0,0 +1,152 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.enums.ElevatorState;
+import org.example.models.Door;
+import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.FloorSet;
+
+/**
+ * Replays a car's committed stops the way the car drives them: the car's own
+ * StopSchedulingPolicy picks each target within its shaft range and decides where it
+ * stops on the way, as in Elevator.moveToFloor. A trip's destination joins the route
+ * once the car serves its pickup, as the passenger's car call would.
+ * Prices calls for EstimatedTimeOfArrivalStrategy and DestinationDispatcher.
+ * Not thread-safe: the stop sets are reused from one replay to the next.
+ */
+public final class RouteReplay {
+    public static final long STOP_TIME_MS = 2 * Door.TRANSITION_TIME_MS + Elevator.DWELL_TIME_MS;
+    private static final int[] NO_TRIPS = new int[0];
+
+    private FloorSet up; // Scratch, sized for the last car replayed
+    private FloorSet down;
+    private long finishMillis;
+
+    /**
+     * Replays the car's stops plus an extra hall stop
+     * @param extraStop Floor to queue as a hall stop, or FloorSet.NONE
+     * @return Summed arrival times at every stop, in ms from now
+     */
+    public long replay(ElevatorSnapshot car, int extraStop) {
+        return replay(car, extraStop, NO_TRIPS, NO_TRIPS, 0);
+    }
+
+    /**
+     * Replays the car's stops plus trips it has been given but not picked up yet
+     * @param extraStop Floor to queue as a hall stop, or FloorSet.NONE
+     * @param sources Pickup floor per trip; overwritten with FloorSet.NONE as pickups are served
+     * @param destinations Destination floor per trip
+     * @param trips Number of trips in the arrays
+     * @return Summed arrival times at every stop, in ms from now
+     */
+    public long replay(ElevatorSnapshot car, int extraStop, int[] sources, int[] destinations, int trips) {
+        StopSchedulingPolicy policy = car.getStopSchedulingPolicy();
+        int lowestFloor = car.getLowestFloor();
+        int highestFloor = car.getHighestFloor();
+        int floor = car.getCurrentFloor();
+        Direction direction = car.getDirection();
+        boolean doorsOpen = car.getState() == ElevatorState.DOOR_OPEN;
+        loadStops(car);
+
+        if (extraStop != FloorSet.NONE) {
+            queue(extraStop, floor, direction, up, down);
+        }
+        for (int t = 0; t < trips; t++) {
+            if (doorsOpen && sources[t] == floor) {
+                queue(destinations[t], floor, direction, up, down); // Boarding right now
+                sources[t] = FloorSet.NONE;
+            } else {
+                queue(sources[t], floor, direction, up, down);
+            }
+        }
+
+        long time = doorsOpen ? STOP_TIME_MS / 2 : 0;
+        long total = 0;
+        // Every stop is served within a few sweeps; the bound only guards against a policy that never settles
+        int moves = 4 * up.getNumberOfFloors() * (up.size() + down.size() + trips + 1);
+        while (moves > 0) {
+            int target = policy.nextTarget(floor, direction, up, down, lowestFloor, highestFloor);
+            if (target == FloorSet.NONE) {
+                break;
+            }
+            direction = directionTowards(target, floor, direction, up, down);
+            if (target == floor) {
+                total += time;
+                time += STOP_TIME_MS;
+                serve(floor, direction, sources, destinations, trips);
+                moves--;
+                continue;
+            }
+
+            int step = target > floor ? 1 : -1;
+            while (floor != target && moves-- > 0) {
+                floor += step;
+                time += Elevator.FLOOR_TRAVEL_TIME_MS;
+                if (policy.stopsWhilePassing(floor, direction, up, down)) {
+                    total += time;
+                    time += STOP_TIME_MS;
+                    serve(floor, direction, sources, destinations, trips);
+                }
+            }
+        }
+
+        finishMillis = time;
+        return total;
+    }
+
+    /**
+     * @return When the last stop of the previous replay is done, in ms from its start
+     */
+    public long getFinishMillis() {
+        return finishMillis;
+    }
+
+    private void loadStops(ElevatorSnapshot car) {
+        int floors = car.getNumberOfFloors();
+        if (up == null || up.getNumberOfFloors() != floors) {
+            up = new FloorSet(floors);
+            down = new FloorSet(floors);
+        }
+        car.copyDestinationsInto(up, down);
+    }
+
+    // The doors open: the stop is cleared and the trips picked up here add their destinations
+    private void serve(int floor, Direction direction, int[] sources, int[] destinations, int trips) {
+        up.remove(floor);
+        down.remove(floor);
+        for (int t = 0; t < trips; t++) {
+            if (sources[t] == floor) {
+                queue(destinations[t], floor, direction, up, down);
+                sources[t] = FloorSet.NONE;
+            }
+        }
+    }
+
+    // Mirrors Elevator.directionTowards: a stop here keeps the direction whose sweep it was queued for
+    private static Direction directionTowards(int target, int floor, Direction direction, FloorSet up, FloorSet down) {
+        if (target > floor) {
+            return Direction.UP;
+        } else if (target < floor) {
+            return Direction.DOWN;
+        } else if (direction == Direction.UP && up.contains(target)) {
+            return Direction.UP;
+        } else if (direction == Direction.DOWN && down.contains(target)) {
+            return Direction.DOWN;
+        }
+        return up.contains(target) ? Direction.UP : Direction.DOWN;
+    }
+
+    // Queues a stop the way Elevator.addDestination would from the given floor
+    private static void queue(int stop, int floor, Direction direction, FloorSet up, FloorSet down) {
+        if (stop > floor) {
+            up.add(stop);
+        } else if (stop < floor) {
+            down.add(stop);
+        } else if (direction == Direction.UP) {
+            down.add(stop);
+        } else {
+            up.add(stop);
+        }
+    }
+}
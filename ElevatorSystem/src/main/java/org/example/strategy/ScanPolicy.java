@@ -0,0 +1,46 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.FloorSet;
+
+/**
+ * Stop scheduling: SCAN
+ * Like LOOK, but while any stop is queued the car sweeps all the way to the
+ * top or bottom of its shaft before turning, serving the stops on its way.
+ * A zoned bank's shaft ends at the bank's lowest and highest served floors.
+ */
+public class ScanPolicy implements StopSchedulingPolicy {
+
+    @Override
+    public int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down) {
+        return nextTarget(currentFloor, direction, up, down, 0, up.getNumberOfFloors() - 1);
+    }
+
+    @Override
+    public int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down,
+                          int lowestFloor, int highestFloor) {
+        if (up.isEmpty() && down.isEmpty()) {
+            return FloorSet.NONE;
+        }
+        int top = highestFloor;
+        Direction sweep = direction != Direction.IDLE ? direction : (up.isEmpty() ? Direction.DOWN : Direction.UP);
+
+        if (sweep == Direction.UP) {
+            if (up.contains(currentFloor)) {
+                return currentFloor;
+            }
+            if (currentFloor < top) {
+                return top;
+            }
+        }
+        // Sweeping down, or turning at the top
+        if (down.contains(currentFloor)) {
+            return currentFloor;
+        }
+        if (currentFloor > lowestFloor) {
+            return lowestFloor;
+        }
+        // Turning at the bottom
+        return up.contains(currentFloor) ? currentFloor : top;
+    }
+}
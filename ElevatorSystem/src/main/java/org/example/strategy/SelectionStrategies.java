@@ -0,0 +1,35 @@
+package org.example.strategy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Selection strategies by the short names used on simulation and benchmark command lines
+ * A new strategy is added to NAMES and create()
+ */
+public final class SelectionStrategies {
+    public static final List<String> NAMES =
+            Collections.unmodifiableList(Arrays.asList("nearest", "leastLoaded", "eta", "hungarian"));
+
+    private SelectionStrategies() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if the name is not one of NAMES
+     */
+    public static ElevatorSelectionStrategy create(String name) {
+        switch (name) {
+            case "nearest":
+                return new NearestElevatorStrategy();
+            case "leastLoaded":
+                return new LeastLoadedStrategy();
+            case "eta":
+                return new EstimatedTimeOfArrivalStrategy();
+            case "hungarian":
+                return new HungarianBatchStrategy();
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.FloorSet;
+
+/**
+ * Stop scheduling: shortest seek first
+ * Always heads for the nearest queued stop in either direction, keeping the
+ * current direction on ties. Travels least per stop, but stops at the far end
+ * of the shaft can wait a long time while nearer ones keep arriving.
+ */
+public class ShortestSeekFirstPolicy implements StopSchedulingPolicy {
+
+    @Override
+    public int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down) {
+        int above = nearestAbove(up.nextSetFloor(currentFloor), down.nextSetFloor(currentFloor));
+        int below = Math.max(up.previousSetFloor(currentFloor), down.previousSetFloor(currentFloor));
+        if (above == FloorSet.NONE) {
+            return below;
+        }
+        if (below == FloorSet.NONE) {
+            return above;
+        }
+        int upDistance = above - currentFloor;
+        int downDistance = currentFloor - below;
+        if (upDistance != downDistance) {
+            return upDistance < downDistance ? above : below;
+        }
+        return direction == Direction.DOWN ? below : above;
+    }
+
+    @Override
+    public boolean stopsWhilePassing(int floor, Direction direction, FloorSet up, FloorSet down) {
+        return up.contains(floor) || down.contains(floor);
+    }
+
+    private static int nearestAbove(int floor, int other) {
+        if (floor == FloorSet.NONE) {
+            return other;
+        }
+        return other == FloorSet.NONE ? floor : Math.min(floor, other);
+    }
+}
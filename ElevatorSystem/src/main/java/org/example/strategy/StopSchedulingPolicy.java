@@ -0,0 +1,39 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.FloorSet;
+
+/**
+ * Strategy Pattern: decides the order in which one car serves the stops it already has
+ * Separate from ElevatorSelectionStrategy, which decides which car gets a call.
+ *
+ * Called by the car under its state lock: the stop sets are the car's live sets,
+ * so read them but do not modify or keep them. Stops above the car are normally
+ * in up, stops below in down. Implementations should be stateless, so one
+ * instance can serve several cars.
+ */
+public interface StopSchedulingPolicy {
+    /**
+     * @param direction Direction the car last travelled or committed to, IDLE if none
+     * @return Floor to head for next (the current floor to stop here), or FloorSet.NONE if no stops are queued
+     */
+    int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down);
+
+    /**
+     * nextTarget for a car whose shaft only spans lowestFloor to highestFloor, e.g. a zoned bank's car.
+     * By default the ends of the shaft make no difference.
+     */
+    default int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down,
+                           int lowestFloor, int highestFloor) {
+        return nextTarget(currentFloor, direction, up, down);
+    }
+
+    /**
+     * Whether a car travelling in the given direction stops at a floor it reaches on the way to its target.
+     * By default it serves the stops queued for its direction of travel.
+     */
+    default boolean stopsWhilePassing(int floor, Direction direction, FloorSet up, FloorSet down) {
+        return (direction == Direction.UP && up.contains(floor))
+                || (direction == Direction.DOWN && down.contains(floor));
+    }
+}
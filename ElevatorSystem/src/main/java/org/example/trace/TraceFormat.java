@@ -0,0 +1,50 @@
+package org.example.trace;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary layout shared by TraceJournal and TraceReader
+ *
+ * Header: magic, version, floors, elevators, car capacity (int, short, int, int, int).
+ * Record: one code byte (event type, direction and request type, two bits each),
+ * then varints: zigzag nanoseconds since the previous record, source floor,
+ * destination + 1 and elevator id + 1. A typical record takes 6 to 9 bytes.
+ */
+final class TraceFormat {
+    static final int MAGIC = 0x454C5654; // "ELVT"
+    static final short VERSION = 1;
+    static final int NULL_CODE = 3;
+
+    private TraceFormat() {
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in trace");
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.trace;
+
+import org.example.controller.RequestRingBuffer;
+import org.example.enums.Direction;
+import org.example.enums.RequestType;
+import org.example.enums.TraceEventType;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only binary journal of the requests a building receives
+ * Producers only write primitives into a RequestRingBuffer and never block;
+ * a background writer thread encodes and flushes them (see TraceFormat).
+ * If the writer falls behind and the buffer fills up, records are dropped
+ * and counted rather than stalling the caller.
+ */
+public class TraceJournal implements AutoCloseable {
+    private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+    private static final int DRAIN_BATCH = 1024;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+
+    private final RequestRingBuffer buffer;
+    private final DataOutputStream out;
+    private final long startNanos;
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private final RequestRingBuffer.Handler encoder = this::encode;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private long lastNanos; // Writer thread only
+    private IOException writeFailure; // Writer thread only, reported on close
+
+    /**
+     * Creates (or truncates) the trace file and starts the writer thread
+     * @param startNanos Clock time the record offsets are measured from
+     */
+    public TraceJournal(Path path, int floors, int elevators, int capacity, long startNanos) throws IOException {
+        this.buffer = new RequestRingBuffer(DEFAULT_BUFFER_CAPACITY);
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        this.startNanos = startNanos;
+        this.lastNanos = startNanos;
+
+        out.writeInt(TraceFormat.MAGIC);
+        out.writeShort(TraceFormat.VERSION);
+        out.writeInt(floors);
+        out.writeInt(elevators);
+        out.writeInt(capacity);
+
+        this.writerThread = new Thread(this::writeLoop, "Trace-Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public void recordHallCall(int floor, Direction direction, long timestampNanos) {
+        record(TraceEventType.HALL_CALL, floor, RequestRingBuffer.NO_FLOOR, direction,
+                RequestType.HALL_REQUEST, TraceRecord.NO_ELEVATOR, timestampNanos);
+    }
+
+    public void recordCarCall(int elevatorId, int currentFloor, int destinationFloor, long timestampNanos) {
+        Direction direction = destinationFloor > currentFloor ? Direction.UP : Direction.DOWN;
+        record(TraceEventType.CAR_CALL, currentFloor, destinationFloor, direction,
+                RequestType.ELEVATOR_REQUEST, elevatorId, timestampNanos);
+    }
+
+    public void recordDispatcherRequest(int sourceFloor, int destinationFloor, Direction direction,
+                                        RequestType requestType, long timestampNanos) {
+        record(TraceEventType.DISPATCHER_REQUEST, sourceFloor, destinationFloor, direction,
+                requestType, TraceRecord.NO_ELEVATOR, timestampNanos);
+    }
+
+    private void record(TraceEventType eventType, int sourceFloor, int destinationFloor, Direction direction,
+                        RequestType requestType, int elevatorId, long timestampNanos) {
+        int tag = eventType.ordinal() | ((elevatorId + 1) << 2);
+        if (!running || !buffer.offer(sourceFloor, destinationFloor, direction, requestType, tag, timestampNanos)) {
+            droppedRecords.incrementAndGet();
+        }
+    }
+
+    private void writeLoop() {
+        while (true) {
+            boolean stopping = !running; // Read before draining so nothing offered earlier is missed
+            int drained = buffer.drain(encoder, DRAIN_BATCH);
+            if (drained == 0) {
+                if (stopping) {
+                    return;
+                }
+                flushQuietly();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void encode(int sourceFloor, int destinationFloor, Direction direction,
+                        RequestType requestType, int tag, long timestampNanos) {
+        if (writeFailure != null) {
+            return;
+        }
+        int directionCode = direction == null ? TraceFormat.NULL_CODE : direction.ordinal();
+        int typeCode = requestType == null ? TraceFormat.NULL_CODE : requestType.ordinal();
+        try {
+            out.writeByte((tag & 3) | (directionCode << 2) | (typeCode << 4));
+            TraceFormat.writeVarLong(out, TraceFormat.zigZag(timestampNanos - lastNanos));
+            TraceFormat.writeVarLong(out, sourceFloor);
+            TraceFormat.writeVarLong(out, destinationFloor + 1);
+            TraceFormat.writeVarLong(out, tag >>> 2);
+            lastNanos = timestampNanos;
+        } catch (IOException e) {
+            writeFailure = e;
+        }
+    }
+
+    private void flushQuietly() {
+        if (writeFailure != null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            writeFailure = e;
+        }
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * @return Records lost because the writer could not keep up
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.get();
+    }
+
+    /**
+     * Writes out everything recorded so far and closes the file
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            if (writeFailure == null) {
+                writeFailure = e;
+            }
+        }
+        if (writeFailure != null) {
+            throw new UncheckedIOException("Trace could not be written", writeFailure);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.trace;
+
+import org.example.enums.Direction;
+import org.example.enums.RequestType;
+import org.example.enums.TraceEventType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Sequential reader for trace files written by TraceJournal
+ */
+public class TraceReader implements AutoCloseable {
+    private static final TraceEventType[] EVENT_TYPES = TraceEventType.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final RequestType[] REQUEST_TYPES = RequestType.values();
+
+    private final DataInputStream in;
+    private final int floors;
+    private final int elevators;
+    private final int capacity;
+    private long offsetNanos;
+
+    public TraceReader(Path path) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        try {
+            if (in.readInt() != TraceFormat.MAGIC) {
+                throw new IOException("Not an elevator trace: " + path);
+            }
+            short version = in.readShort();
+            if (version != TraceFormat.VERSION) {
+                throw new IOException("Unsupported trace version " + version);
+            }
+            this.floors = in.readInt();
+            this.elevators = in.readInt();
+            this.capacity = in.readInt();
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The next record, or null at the end of the trace
+     */
+    public TraceRecord next() throws IOException {
+        int codes = in.read();
+        if (codes < 0) {
+            return null;
+        }
+        if ((codes & 3) >= EVENT_TYPES.length) {
+            throw new IOException("Unknown trace event type " + (codes & 3));
+        }
+        try {
+            offsetNanos += TraceFormat.unZigZag(TraceFormat.readVarLong(in));
+            int sourceFloor = (int) TraceFormat.readVarLong(in);
+            int destinationFloor = (int) TraceFormat.readVarLong(in) - 1;
+            int elevatorId = (int) TraceFormat.readVarLong(in) - 1;
+            return new TraceRecord(EVENT_TYPES[codes & 3], offsetNanos, sourceFloor, destinationFloor,
+                    decode(DIRECTIONS, (codes >>> 2) & 3), decode(REQUEST_TYPES, (codes >>> 4) & 3), elevatorId);
+        } catch (EOFException e) {
+            throw new IOException("Trace ends in the middle of a record", e);
+        }
+    }
+
+    private static <T> T decode(T[] values, int code) {
+        return code < values.length ? values[code] : null;
+    }
+
+    public int getFloors() {
+        return floors;
+    }
+
+    public int getElevators() {
+        return elevators;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.trace;
+
+import org.example.enums.Direction;
+import org.example.enums.RequestType;
+import org.example.enums.TraceEventType;
+
+/**
+ * One journaled request, read back from a trace file
+ */
+public final class TraceRecord {
+    public static final int NO_FLOOR = -1;
+    public static final int NO_ELEVATOR = -1;
+
+    private final TraceEventType eventType;
+    private final long offsetNanos;
+    private final int sourceFloor;
+    private final int destinationFloor;
+    private final Direction direction;
+    private final RequestType requestType;
+    private final int elevatorId;
+
+    public TraceRecord(TraceEventType eventType, long offsetNanos, int sourceFloor, int destinationFloor,
+                       Direction direction, RequestType requestType, int elevatorId) {
+        this.eventType = eventType;
+        this.offsetNanos = offsetNanos;
+        this.sourceFloor = sourceFloor;
+        this.destinationFloor = destinationFloor;
+        this.direction = direction;
+        this.requestType = requestType;
+        this.elevatorId = elevatorId;
+    }
+
+    public TraceEventType getEventType() {
+        return eventType;
+    }
+
+    /**
+     * @return Time since the trace was opened, on the recording building's clock
+     */
+    public long getOffsetNanos() {
+        return offsetNanos;
+    }
+
+    public int getSourceFloor() {
+        return sourceFloor;
+    }
+
+    /**
+     * @return Destination, or NO_FLOOR for hall calls
+     */
+    public int getDestinationFloor() {
+        return destinationFloor;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public RequestType getRequestType() {
+        return requestType;
+    }
+
+    /**
+     * @return Car the request was made in, or NO_ELEVATOR
+     */
+    public int getElevatorId() {
+        return elevatorId;
+    }
+
+    @Override
+    public String toString() {
+        return "TraceRecord{" +
+                "type=" + eventType +
+                ", offset=" + offsetNanos / 1_000_000 + "ms" +
+                ", source=" + sourceFloor +
+                ", destination=" + destinationFloor +
+                ", direction=" + direction +
+                ", elevator=" + elevatorId +
+                '}';
+    }
+}
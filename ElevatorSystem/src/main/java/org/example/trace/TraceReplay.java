@@ -0,0 +1,231 @@
+package org.example.trace;
+
+import org.example.clock.DiscreteEventClock;
+import org.example.enums.Direction;
+import org.example.enums.ElevatorState;
+import org.example.enums.LogLevel;
+import org.example.enums.TraceEventType;
+import org.example.logging.EventLog;
+import org.example.models.Building;
+import org.example.models.Elevator;
+import org.example.models.Request;
+import org.example.simulation.HallCallWaits;
+import org.example.strategy.SelectionStrategies;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Replays a recorded trace through one or more selection strategies
+ *
+ * Every record is fed back through the entry point it was captured at, at its
+ * original offset, on a fresh building driven by a DiscreteEventClock, so the
+ * same trace and strategy always give the same result. Reports how long hall
+ * calls waited for a car to open on their floor.
+ *
+ * A strategy may put a passenger in a different car than the recorded run did, or
+ * pick them up later. A car call therefore goes to a car standing open on the floor
+ * it was pressed on (the recorded car if it is one of them), waiting until one is.
+ * The output counts the car calls that went to another car and those never placed.
+ *
+ * Usage: TraceReplay <traceFile> [nearest|leastLoaded|eta|hungarian ...]
+ */
+public class TraceReplay {
+    private static final long SAMPLE_INTERVAL_MS = 100;
+    private static final long DRAIN_LIMIT_MS = 15L * 60 * 1000;
+    private static final long BATCH_WINDOW_MS = 300;
+    private static final int LABEL_WIDTH = 14;
+
+    public static void main(String[] args) throws IOException {
+        EventLog.setLevel(LogLevel.WARN);
+        if (args.length == 0) {
+            System.err.println("Usage: TraceReplay <traceFile> [nearest|leastLoaded|eta|hungarian ...]");
+            return;
+        }
+        Path traceFile = Paths.get(args[0]);
+        List<String> strategies = args.length > 1
+                ? Arrays.asList(args).subList(1, args.length)
+                : SelectionStrategies.NAMES;
+
+        List<TraceRecord> records = new ArrayList<>();
+        int floors;
+        int elevators;
+        int capacity;
+        try (TraceReader reader = new TraceReader(traceFile)) {
+            floors = reader.getFloors();
+            elevators = reader.getElevators();
+            capacity = reader.getCapacity();
+            for (TraceRecord record = reader.next(); record != null; record = reader.next()) {
+                records.add(record);
+            }
+        }
+
+        List<HallCallWaits> results = new ArrayList<>();
+        List<CarCalls> carCalls = new ArrayList<>();
+        for (String strategy : strategies) {
+            HallCallWaits waits = new HallCallWaits();
+            CarCalls calls = new CarCalls();
+            replay(records, floors, elevators, capacity, strategy, waits, calls);
+            results.add(waits);
+            carCalls.add(calls);
+        }
+
+        System.out.println("\n=== Trace Replay: " + traceFile + " (" + records.size() + " records, "
+                + floors + " floors, " + elevators + " cars) ===");
+        System.out.println(String.format("%-" + LABEL_WIDTH + "s %8s %10s %10s",
+                "strategy", "calls", "avg s", "p95 s"));
+        for (int i = 0; i < strategies.size(); i++) {
+            HallCallWaits.printRow(strategies.get(i), LABEL_WIDTH, results.get(i).getWaits());
+        }
+
+        if (carCalls.get(0).pressed > 0) {
+            System.out.println("Car calls go to a car open on the floor they were pressed on, once there is one:");
+            System.out.println(String.format("%-" + LABEL_WIDTH + "s %9s %10s %10s",
+                    "strategy", "car calls", "other car", "unplaced"));
+            for (int i = 0; i < strategies.size(); i++) {
+                CarCalls calls = carCalls.get(i);
+                System.out.println(String.format("%-" + LABEL_WIDTH + "s %9d %10d %10d",
+                        strategies.get(i), calls.pressed, calls.remapped, calls.pending.size()));
+            }
+        }
+    }
+
+    /**
+     * Feeds the records through a fresh building; waits collects every hall press a car served
+     */
+    private static void replay(List<TraceRecord> records, int floors, int elevators, int capacity,
+                               String strategyName, HallCallWaits waits, CarCalls carCalls) {
+        DiscreteEventClock clock = new DiscreteEventClock();
+        Building.Builder builder = new Building.Builder()
+                .name("Replay Tower")
+                .floors(floors)
+                .elevators(elevators, capacity)
+                .selectionStrategy(SelectionStrategies.create(strategyName))
+                .clock(clock);
+        if (strategyName.equals("hungarian")) {
+            builder.batchDispatch(BATCH_WINDOW_MS);
+        }
+        Building building = builder.build();
+
+        clock.attach();
+        building.start();
+        try {
+            long nextSample = SAMPLE_INTERVAL_MS;
+            for (TraceRecord record : records) {
+                long at = record.getOffsetNanos() / 1_000_000L;
+                nextSample = advanceTo(clock, at, nextSample, building, waits, carCalls);
+                apply(building, clock, record, carCalls);
+                if (record.getEventType() == TraceEventType.HALL_CALL) {
+                    waits.callPlaced(record.getSourceFloor(), clock.currentTimeMillis());
+                }
+            }
+
+            long drainEnd = clock.currentTimeMillis() + DRAIN_LIMIT_MS;
+            while ((waits.hasOutstanding() || !carCalls.pending.isEmpty()) && clock.currentTimeMillis() < drainEnd) {
+                nextSample = advanceTo(clock, nextSample, nextSample, building, waits, carCalls);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            building.stop();
+            clock.detach();
+        }
+    }
+
+    /**
+     * Sleeps until the given time, sampling the cars on the way
+     * @return Time of the next sample
+     */
+    private static long advanceTo(DiscreteEventClock clock, long targetMillis, long nextSample, Building building,
+                                  HallCallWaits waits, CarCalls carCalls) throws InterruptedException {
+        while (clock.currentTimeMillis() < targetMillis) {
+            long wakeAt = Math.min(targetMillis, nextSample);
+            clock.sleep(wakeAt - clock.currentTimeMillis());
+            if (clock.currentTimeMillis() >= nextSample) {
+                waits.recordArrivals(building, clock.currentTimeMillis());
+                carCalls.place(building);
+                nextSample += SAMPLE_INTERVAL_MS;
+            }
+        }
+        return nextSample;
+    }
+
+    private static void apply(Building building, DiscreteEventClock clock, TraceRecord record, CarCalls carCalls) {
+        switch (record.getEventType()) {
+            case HALL_CALL:
+                if (record.getDirection() == Direction.UP) {
+                    building.requestElevatorUp(record.getSourceFloor());
+                } else {
+                    building.requestElevatorDown(record.getSourceFloor());
+                }
+                break;
+            case CAR_CALL:
+                carCalls.pressed(record);
+                carCalls.place(building);
+                break;
+            case DISPATCHER_REQUEST:
+                building.submitRequest(new Request.Builder()
+                        .sourceFloor(record.getSourceFloor())
+                        .destinationFloor(record.getDestinationFloor() == TraceRecord.NO_FLOOR
+                                ? null : record.getDestinationFloor())
+                        .direction(record.getDirection())
+                        .requestType(record.getRequestType())
+                        .timestampNanos(clock.nanoTime())
+                        .build());
+                break;
+            default:
+                throw new IllegalStateException("Unknown trace event " + record.getEventType());
+        }
+    }
+
+    /**
+     * Car calls of one replay, each held until a car stands open on the floor it was pressed on
+     */
+    private static final class CarCalls {
+        private final List<int[]> pending = new ArrayList<>(); // {floor, destinationFloor, recordedElevatorId}
+        private int pressed;
+        private int remapped; // Placed in another car than the recorded one
+
+        private void pressed(TraceRecord record) {
+            pending.add(new int[]{record.getSourceFloor(), record.getDestinationFloor(), record.getElevatorId()});
+            pressed++;
+        }
+
+        private void place(Building building) {
+            Iterator<int[]> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                int[] call = iterator.next();
+                Elevator car = openCarAt(building, call[0], call[2]);
+                if (car == null) {
+                    continue; // The passenger has not been picked up in this replay yet
+                }
+                building.selectFloorInElevator(car.getId(), call[1]);
+                if (car.getId() != call[2]) {
+                    remapped++;
+                }
+                iterator.remove();
+            }
+        }
+
+        private static Elevator openCarAt(Building building, int floor, int preferredElevatorId) {
+            Elevator found = null;
+            for (Elevator elevator : building.getElevators()) {
+                if (elevator.getState() != ElevatorState.DOOR_OPEN || elevator.getCurrentFloor() != floor) {
+                    continue;
+                }
+                if (elevator.getId() == preferredElevatorId) {
+                    return elevator;
+                }
+                if (found == null) {
+                    found = elevator;
+                }
+            }
+            return found;
+        }
+    }
+}
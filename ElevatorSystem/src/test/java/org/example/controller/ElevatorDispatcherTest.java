@@ -0,0 +1,123 @@
+package org.example.controller;
+
+import org.example.clock.DiscreteEventClock;
+import org.example.enums.Direction;
+import org.example.enums.LogLevel;
+import org.example.enums.OverloadPolicy;
+import org.example.logging.EventLog;
+import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.Request;
+import org.example.strategy.ElevatorSelectionStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElevatorDispatcherTest {
+    private static final int FLOORS = 20;
+    private static final int CALLS = 200;
+
+    private LogLevel previousLevel;
+
+    @BeforeEach
+    void quietLog() {
+        previousLevel = EventLog.getLevel();
+        EventLog.setLevel(LogLevel.ERROR);
+    }
+
+    @AfterEach
+    void restoreLog() {
+        EventLog.setLevel(previousLevel);
+    }
+
+    @Test
+    void blockedProducerOutsideADiscreteClockWaitsInRealTime() throws InterruptedException {
+        DiscreteEventClock clock = new DiscreteEventClock();
+        CountingStrategy strategy = new CountingStrategy();
+        ElevatorDispatcher dispatcher = newDispatcher(clock, strategy, OverloadPolicy.BLOCK);
+        Thread dispatcherThread = new Thread(clock.bind(dispatcher), "Dispatcher-Thread");
+        dispatcherThread.start();
+
+        assertFalse(clock.canSleep());
+        for (int i = 0; i < CALLS; i++) {
+            assertTrue(dispatcher.submitHallCall(i % FLOORS, Direction.UP)); // Never rejected, never throws
+        }
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (strategy.selections.get() < CALLS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        dispatcher.stop();
+        dispatcherThread.join(5_000);
+        assertEquals(CALLS, strategy.selections.get());
+    }
+
+    @Test
+    void blockedProducerTakingPartInTheClockSleepsOnIt() throws InterruptedException {
+        DiscreteEventClock clock = new DiscreteEventClock();
+        CountingStrategy strategy = new CountingStrategy();
+        ElevatorDispatcher dispatcher = newDispatcher(clock, strategy, OverloadPolicy.BLOCK);
+        Thread dispatcherThread = new Thread(clock.bind(dispatcher), "Dispatcher-Thread");
+        dispatcherThread.start();
+
+        clock.attach();
+        try {
+            assertTrue(clock.canSleep());
+            for (int i = 0; i < CALLS; i++) {
+                assertTrue(dispatcher.submitHallCall(i % FLOORS, Direction.UP));
+            }
+            clock.sleep(1_000); // Lets the dispatcher drain the rest
+        } finally {
+            dispatcher.stop();
+            clock.detach();
+        }
+        dispatcherThread.join(5_000);
+        assertEquals(CALLS, strategy.selections.get());
+    }
+
+    @Test
+    void rejectedRequestsReportFailure() {
+        DiscreteEventClock clock = new DiscreteEventClock();
+        ElevatorDispatcher dispatcher = newDispatcher(clock, new CountingStrategy(), OverloadPolicy.REJECT);
+
+        int accepted = 0;
+        for (int i = 0; i < CALLS; i++) {
+            if (dispatcher.submitHallCall(i % FLOORS, Direction.DOWN)) {
+                accepted++;
+            }
+        }
+        assertEquals(4, accepted); // Nobody drains: only the ring's capacity fits
+    }
+
+    private static ElevatorDispatcher newDispatcher(DiscreteEventClock clock, ElevatorSelectionStrategy strategy,
+                                                    OverloadPolicy overloadPolicy) {
+        Elevator elevator = new Elevator(1, 8, FLOORS, clock);
+        return new ElevatorDispatcher.Builder()
+                .elevatorControllers(Collections.singletonList(new ElevatorController(elevator, clock)))
+                .selectionStrategy(strategy)
+                .clock(clock)
+                .requestQueue(4, overloadPolicy)
+                .build();
+    }
+
+    /**
+     * Sends every request to the first car and counts the decisions
+     */
+    private static final class CountingStrategy implements ElevatorSelectionStrategy {
+        private final AtomicInteger selections = new AtomicInteger();
+
+        @Override
+        public ElevatorSnapshot selectElevator(List<ElevatorSnapshot> elevators, Request request) {
+            selections.incrementAndGet();
+            return elevators.get(0);
+        }
+    }
+}
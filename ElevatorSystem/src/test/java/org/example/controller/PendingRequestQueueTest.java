@@ -0,0 +1,123 @@
+package org.example.controller;
+
+import org.example.enums.Direction;
+import org.example.enums.RequestPriority;
+import org.example.enums.RequestType;
+import org.example.models.Request;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PendingRequestQueueTest {
+    private static final long SECOND_NANOS = 1_000_000_000L;
+
+    @Test
+    void emptyQueuePollsNull() {
+        PendingRequestQueue queue = new PendingRequestQueue();
+
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void equalRanksLeaveInQueueOrder() {
+        PendingRequestQueue queue = new PendingRequestQueue();
+        List<Request> requests = new ArrayList<>();
+        for (int floor = 0; floor < 40; floor++) {
+            Request request = request(floor, RequestPriority.NORMAL, 5 * SECOND_NANOS);
+            requests.add(request);
+            queue.add(request);
+        }
+
+        for (Request request : requests) {
+            assertSame(request, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void higherClassGoesFirstUntilOlderCallsCatchUp() {
+        long now = 100 * SECOND_NANOS;
+        long headStart = RequestPriority.ACCESSIBILITY.getHeadStartMillis() * 1_000_000L;
+        PendingRequestQueue queue = new PendingRequestQueue();
+        Request accessibility = request(1, RequestPriority.ACCESSIBILITY, now);
+        Request waitedLess = request(2, RequestPriority.NORMAL, now - headStart + SECOND_NANOS);
+        Request waitedLonger = request(3, RequestPriority.NORMAL, now - headStart - SECOND_NANOS);
+        Request waitedExactly = request(4, RequestPriority.NORMAL, now - headStart);
+        queue.add(waitedLess);
+        queue.add(accessibility);
+        queue.add(waitedExactly);
+        queue.add(waitedLonger);
+
+        assertSame(waitedLonger, queue.poll()); // Aged past the head start
+        assertSame(accessibility, queue.poll()); // Same rank, queued before waitedExactly
+        assertSame(waitedExactly, queue.poll());
+        assertSame(waitedLess, queue.poll());
+    }
+
+    @Test
+    void fireServiceGoesAheadOfEveryAgedCall() {
+        PendingRequestQueue queue = new PendingRequestQueue();
+        queue.add(request(1, RequestPriority.NORMAL, 0));
+        queue.add(request(2, RequestPriority.VIP, 0));
+        Request later = request(3, RequestPriority.FIRE_SERVICE, 3600 * SECOND_NANOS);
+        Request earlier = request(4, RequestPriority.FIRE_SERVICE, 3599 * SECOND_NANOS);
+        queue.add(later);
+        queue.add(earlier);
+
+        assertSame(earlier, queue.poll());
+        assertSame(later, queue.poll());
+        assertEquals(RequestPriority.VIP, queue.poll().getPriority());
+        assertEquals(RequestPriority.NORMAL, queue.poll().getPriority());
+    }
+
+    @Test
+    void pollsInTheOrderOfAStableSortOverMixedCalls() {
+        Random random = new Random(42);
+        RequestPriority[] priorities = RequestPriority.values();
+        PendingRequestQueue queue = new PendingRequestQueue();
+        List<Request> requests = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            // Coarse timestamps so many calls tie on rank
+            RequestPriority priority = priorities[random.nextInt(priorities.length)];
+            Request request = request(random.nextInt(40), priority, random.nextInt(600) * SECOND_NANOS);
+            requests.add(request);
+            queue.add(request);
+        }
+        assertEquals(requests.size(), queue.size());
+
+        List<Request> expected = new ArrayList<>(requests);
+        expected.sort(Comparator.comparing((Request request) -> !request.getPriority().overridesAging())
+                .thenComparingLong(PendingRequestQueueTest::rank)); // List.sort is stable: ties keep queue order
+        for (Request request : expected) {
+            assertSame(request, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    private static long rank(Request request) {
+        RequestPriority priority = request.getPriority();
+        return priority.overridesAging()
+                ? request.getTimestampNanos()
+                : request.getTimestampNanos() - priority.getHeadStartMillis() * 1_000_000L;
+    }
+
+    private static Request request(int floor, RequestPriority priority, long timestampNanos) {
+        return new Request.Builder()
+                .sourceFloor(floor)
+                .direction(Direction.UP)
+                .requestType(RequestType.HALL_REQUEST)
+                .priority(priority)
+                .timestampNanos(timestampNanos)
+                .build();
+    }
+}
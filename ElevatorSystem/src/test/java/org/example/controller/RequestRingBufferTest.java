@@ -0,0 +1,107 @@
+package org.example.controller;
+
+import org.example.enums.Direction;
+import org.example.enums.RequestType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestRingBufferTest {
+    private static final int FLOORS = 40;
+
+    @Test
+    void capacityRoundsUpToAPowerOfTwo() {
+        assertEquals(1, new RequestRingBuffer(1).capacity());
+        assertEquals(64, new RequestRingBuffer(33).capacity());
+        assertEquals(1024, new RequestRingBuffer(1024).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new RequestRingBuffer(0));
+    }
+
+    @Test
+    void rejectsOffersWhenFullUntilDrained() {
+        RequestRingBuffer buffer = new RequestRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i, RequestRingBuffer.NO_FLOOR, Direction.UP, RequestType.HALL_REQUEST, i));
+        }
+        assertFalse(buffer.offer(5, RequestRingBuffer.NO_FLOOR, Direction.UP, RequestType.HALL_REQUEST, 5));
+
+        assertEquals(1, buffer.drain((source, destination, direction, type, tag, timestamp) -> { }, 1));
+        assertTrue(buffer.offer(5, RequestRingBuffer.NO_FLOOR, Direction.UP, RequestType.HALL_REQUEST, 5));
+    }
+
+    @Test
+    void fieldsSurviveTheRoundTrip() {
+        RequestRingBuffer buffer = new RequestRingBuffer(8);
+        buffer.offer(3, RequestRingBuffer.NO_FLOOR, Direction.DOWN, RequestType.HALL_REQUEST, 7, 123L);
+        buffer.offer(0, 39, null, RequestType.ELEVATOR_REQUEST, -2, Long.MAX_VALUE);
+
+        List<String> drained = new ArrayList<>();
+        buffer.drain((source, destination, direction, type, tag, timestamp) ->
+                drained.add(source + " " + destination + " " + direction + " " + type + " " + tag + " " + timestamp), 8);
+
+        assertEquals(List.of("3 -1 DOWN HALL_REQUEST 7 123",
+                "0 39 null ELEVATOR_REQUEST -2 " + Long.MAX_VALUE), drained);
+        assertTrue(buffer.isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> buffer.offer(-1, 0, Direction.UP, RequestType.HALL_REQUEST, 0));
+    }
+
+    @Test
+    void everyRequestFromManyProducersIsDrainedExactlyOnce() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        RequestRingBuffer buffer = new RequestRingBuffer(64); // Wraps around thousands of times
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    Direction direction = i % 2 == 0 ? Direction.UP : Direction.DOWN;
+                    while (!buffer.offer(i % FLOORS, (i + 1) % FLOORS, direction, RequestType.ELEVATOR_REQUEST,
+                            producer, i)) {
+                        if (System.nanoTime() > deadline) {
+                            return; // The consumer gave up
+                        }
+                        Thread.yield(); // Full: let the consumer run
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        int[] next = new int[producers]; // Each producer's requests arrive in the order it offered them
+        int[] drained = {0};
+        while (drained[0] < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drain((source, destination, direction, type, tag, timestamp) -> {
+                int sequence = (int) timestamp;
+                assertEquals(next[tag]++, sequence, "order of producer " + tag);
+                assertEquals(sequence % FLOORS, source);
+                assertEquals((sequence + 1) % FLOORS, destination);
+                assertEquals(sequence % 2 == 0 ? Direction.UP : Direction.DOWN, direction);
+                assertEquals(RequestType.ELEVATOR_REQUEST, type);
+                drained[0]++;
+            }, 32);
+            Thread.yield();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, drained[0]);
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer, next[p]);
+        }
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.metrics;
+
+import org.example.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ElevatorMetricsTest {
+
+    @Test
+    void stopServesOnlyTheDirectionTheCarLeavesIn() {
+        ElevatorMetrics metrics = new ElevatorMetrics(10);
+        metrics.recordHallCall(4, Direction.UP, 1_000);
+        metrics.recordHallCall(4, Direction.DOWN, 2_000);
+
+        metrics.recordStopServed(4, Direction.UP, 5_000);
+        assertEquals(1, metrics.getWaitTimes().getCount());
+        assertEquals(4_000, metrics.getWaitTimes().getMaxNanos());
+
+        // The down call waits for a car leaving downwards, however often doors open here
+        metrics.recordStopServed(4, Direction.UP, 9_000);
+        assertEquals(1, metrics.getWaitTimes().getCount());
+        metrics.recordStopServed(4, Direction.DOWN, 12_000);
+        assertEquals(2, metrics.getWaitTimes().getCount());
+        assertEquals(10_000, metrics.getWaitTimes().getMaxNanos());
+    }
+
+    @Test
+    void idleCarServesBothDirections() {
+        ElevatorMetrics metrics = new ElevatorMetrics(10);
+        metrics.recordHallCall(2, Direction.UP, 0);
+        metrics.recordHallCall(2, Direction.DOWN, 0);
+
+        metrics.recordStopServed(2, Direction.IDLE, 3_000);
+
+        assertEquals(2, metrics.getWaitTimes().getCount());
+    }
+
+    @Test
+    void callMadeWhileTheDoorsWereOpenWaitsNothing() {
+        ElevatorMetrics metrics = new ElevatorMetrics(10);
+        metrics.recordHallCall(7, Direction.DOWN, 8_000);
+
+        metrics.recordStopServed(7, Direction.DOWN, 5_000);
+
+        assertEquals(1, metrics.getWaitTimes().getCount());
+        assertEquals(0, metrics.getWaitTimes().getMaxNanos());
+    }
+
+    @Test
+    void banksShareHistogramsButNotCalls() {
+        ElevatorMetrics lowRise = new ElevatorMetrics(10);
+        ElevatorMetrics highRise = lowRise.forAnotherBank();
+        lowRise.recordHallCall(0, Direction.UP, 0);
+
+        highRise.recordStopServed(0, Direction.UP, 1_000);
+        assertEquals(0, lowRise.getWaitTimes().getCount());
+
+        lowRise.recordStopServed(0, Direction.UP, 1_000);
+        assertEquals(1, highRise.getWaitTimes().getCount());
+    }
+}
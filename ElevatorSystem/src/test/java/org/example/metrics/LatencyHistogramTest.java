@@ -0,0 +1,111 @@
+package org.example.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesMapOneToOne() {
+        for (int value = 0; value < LatencyHistogram.SUB_BUCKET_COUNT; value++) {
+            assertEquals(value, LatencyHistogram.indexOf(value));
+            assertEquals(value, LatencyHistogram.highestValueAt(value));
+        }
+    }
+
+    @Test
+    void bucketsTileTheRangeWithoutGapsOrOverlap() {
+        assertEquals(LatencyHistogram.SUB_BUCKET_COUNT, LatencyHistogram.indexOf(LatencyHistogram.SUB_BUCKET_COUNT));
+        for (int index = 0; index < LatencyHistogram.BUCKET_COUNT - 1; index++) {
+            long highest = LatencyHistogram.highestValueAt(index);
+            assertEquals(index, LatencyHistogram.indexOf(highest), "top of bucket " + index);
+            assertEquals(index + 1, LatencyHistogram.indexOf(highest + 1), "bottom of bucket " + (index + 1));
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.indexOf(LatencyHistogram.MAX_TRACKABLE_NANOS));
+    }
+
+    @Test
+    void powersOfTwoStartABucket() {
+        for (int bit = LatencyHistogram.SUB_BUCKET_BITS; bit < 43; bit++) {
+            long power = 1L << bit;
+            assertEquals(power - 1, LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(power) - 1));
+        }
+    }
+
+    @Test
+    void bucketWidthStaysWithinOnePercentOfItsValues() {
+        for (int index = LatencyHistogram.SUB_BUCKET_COUNT; index < LatencyHistogram.BUCKET_COUNT; index++) {
+            long lowest = LatencyHistogram.highestValueAt(index - 1) + 1;
+            long highest = LatencyHistogram.highestValueAt(index);
+            assertTrue(highest - lowest < lowest / 100.0, "bucket " + index);
+        }
+    }
+
+    @Test
+    void emptySnapshotReportsZero() {
+        HistogramSnapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMinNanos());
+        assertEquals(0, snapshot.getP99Nanos());
+        assertEquals(0.0, snapshot.getMeanNanos());
+    }
+
+    @Test
+    void percentileReportsTheTopOfItsBucketCappedAtTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(1_000);
+        histogram.record(5_000);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(1_000)), snapshot.getP50Nanos());
+        assertTrue(snapshot.getP50Nanos() > 1_000);
+        assertEquals(5_000, snapshot.getValueAtPercentile(100)); // Bucket top is above the largest sample
+        assertEquals(1_000, snapshot.getMinNanos());
+        assertEquals(5_000, snapshot.getMaxNanos());
+    }
+
+    @Test
+    void outOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(0, snapshot.getMinNanos());
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, snapshot.getMaxNanos());
+        assertEquals(0, snapshot.getValueAtPercentile(50));
+    }
+
+    @Test
+    void percentilesStayWithinOneSubBucketAboveTheExactValue() {
+        Random random = new Random(17);
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] samples = new long[200_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (long) Math.exp(random.nextDouble() * Math.log(60e9)); // 1 ns to a minute, log-uniform
+            histogram.record(samples[i]);
+        }
+        Arrays.sort(samples);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        double worstError = 0;
+        for (double percentile = 0.1; percentile <= 100; percentile += 0.1) {
+            long exact = samples[(int) Math.ceil(percentile / 100.0 * samples.length) - 1];
+            long reported = snapshot.getValueAtPercentile(percentile);
+            assertTrue(reported >= exact, "p" + percentile + " below the exact value");
+            worstError = Math.max(worstError, (reported - exact) / (double) Math.max(exact, 1));
+        }
+        // A bucket spans at most 1/SUB_BUCKET_HALF of its values: 0.78%, inside the documented 1%
+        assertTrue(worstError < 1.0 / LatencyHistogram.SUB_BUCKET_HALF, "worst error " + worstError);
+        assertEquals(samples.length, snapshot.getCount());
+        assertEquals(samples[samples.length - 1], snapshot.getMaxNanos());
+    }
+}
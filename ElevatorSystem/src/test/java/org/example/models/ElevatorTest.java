@@ -0,0 +1,128 @@
+package org.example.models;
+
+import org.example.clock.DiscreteEventClock;
+import org.example.enums.Direction;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.strategy.ScanPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElevatorTest {
+    private static final int FLOORS = 10;
+
+    private final DiscreteEventClock clock = new DiscreteEventClock();
+    private LogLevel previousLevel;
+
+    @BeforeEach
+    void attach() {
+        previousLevel = EventLog.getLevel();
+        EventLog.setLevel(LogLevel.ERROR);
+        clock.attach(); // moveToFloor sleeps on the clock
+    }
+
+    @AfterEach
+    void detach() {
+        clock.detach();
+        EventLog.setLevel(previousLevel);
+    }
+
+    @Test
+    void legacyCarServesTheDefaultNumberOfFloors() {
+        Elevator legacy = new Elevator(1, 8, clock);
+        assertTrue(legacy.addDestination(Elevator.DEFAULT_NUMBER_OF_FLOORS - 1));
+        assertThrows(IllegalArgumentException.class, () -> legacy.addDestination(Elevator.DEFAULT_NUMBER_OF_FLOORS));
+
+        Elevator tall = new Elevator(2, 8, 100, clock);
+        assertTrue(tall.addDestination(80));
+        assertThrows(IllegalArgumentException.class, () -> tall.addHallStop(100));
+        assertThrows(IllegalArgumentException.class, () -> new Elevator(3, 8, 0, clock));
+    }
+
+    @Test
+    void scanCarRunsToTheEndOfTheShaftInOneLeg() {
+        Elevator elevator = new Elevator(1, 8, FLOORS, clock);
+        elevator.setStopSchedulingPolicy(new ScanPolicy());
+        elevator.addDestination(3);
+        elevator.addDestination(6);
+
+        int target = elevator.getNextDestination();
+        assertEquals(FLOORS - 1, target); // The unqueued shaft end
+        elevator.moveToFloor(target);
+
+        assertEquals(FLOORS - 1, elevator.getCurrentFloor());
+        assertEquals(2, elevator.getStopsMade()); // Stopped at 3 and 6 on the way
+        assertFalse(elevator.hasDestinations());
+    }
+
+    @Test
+    void scanCarInAZoneTurnsAtTheZoneTop() {
+        Elevator elevator = new Elevator(1, 8, FLOORS, clock);
+        elevator.setStopSchedulingPolicy(new ScanPolicy());
+        elevator.setShaftRange(0, 5);
+        elevator.addDestination(2);
+
+        elevator.moveToFloor(elevator.getNextDestination());
+
+        assertEquals(5, elevator.getCurrentFloor());
+    }
+
+    @Test
+    void withdrawnTargetStopEndsTheLegEarly() {
+        Elevator elevator = new Elevator(1, 8, FLOORS, clock);
+        elevator.addHallStop(8);
+        elevator.addDestination(3);
+        elevator.setArrivalListener((car, floor) -> {
+            if (floor == 3) {
+                assertTrue(car.withdrawHallStop(8)); // Reallocated to another car while this one stops
+            }
+        });
+
+        elevator.moveToFloor(8);
+
+        assertEquals(3, elevator.getCurrentFloor());
+        assertEquals(1, elevator.getStopsMade());
+    }
+
+    @Test
+    void stopServesTheDirectionTheCarKeepsGoing() {
+        assertEquals(Direction.UP, servedAtThreeBy(6));
+    }
+
+    @Test
+    void carTurningAroundServesBothDirections() {
+        // It arrived showing up to whoever boarded and leaves down: neither call needs another car
+        assertEquals(Direction.IDLE, servedAtThreeBy(1));
+    }
+
+    // Car arrives at floor 3 heading up, where a boarding passenger presses destination
+    private Direction servedAtThreeBy(int destination) {
+        Elevator elevator = new Elevator(1, 8, FLOORS, clock);
+        List<Direction> served = new ArrayList<>();
+        elevator.setArrivalListener((car, floor) -> {
+            if (floor == 3) {
+                car.addDestination(destination);
+            }
+        });
+        elevator.setStopListener((car, floor, direction) -> {
+            if (floor == 3) {
+                served.add(direction);
+            }
+        });
+        elevator.addHallStop(3);
+
+        elevator.moveToFloor(elevator.getNextDestination());
+
+        assertEquals(1, served.size());
+        return served.get(0);
+    }
+}
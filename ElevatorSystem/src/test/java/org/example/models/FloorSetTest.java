@@ -0,0 +1,104 @@
+package org.example.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FloorSetTest {
+
+    @Test
+    void floorsEitherSideOfAWordBoundaryAreKeptApart() {
+        FloorSet set = new FloorSet(130);
+        assertTrue(set.add(63));
+        assertTrue(set.add(64));
+        assertFalse(set.add(64));
+
+        assertTrue(set.contains(63));
+        assertTrue(set.contains(64));
+        assertFalse(set.contains(62));
+        assertFalse(set.contains(65));
+        assertEquals(2, set.size());
+
+        assertTrue(set.remove(63));
+        assertFalse(set.contains(63));
+        assertTrue(set.contains(64));
+    }
+
+    @Test
+    void nextSetFloorCrossesWords() {
+        FloorSet set = floors(130, 5, 64, 129);
+
+        assertEquals(5, set.nextSetFloor(0));
+        assertEquals(5, set.nextSetFloor(5)); // Inclusive
+        assertEquals(64, set.nextSetFloor(6));
+        assertEquals(64, set.nextSetFloor(63));
+        assertEquals(129, set.nextSetFloor(65));
+        assertEquals(FloorSet.NONE, set.nextSetFloor(130));
+        assertEquals(5, set.nextSetFloor(-3));
+    }
+
+    @Test
+    void previousSetFloorCrossesWords() {
+        FloorSet set = floors(130, 5, 63, 128);
+
+        assertEquals(128, set.previousSetFloor(129));
+        assertEquals(128, set.previousSetFloor(128)); // Inclusive
+        assertEquals(63, set.previousSetFloor(127));
+        assertEquals(63, set.previousSetFloor(64));
+        assertEquals(5, set.previousSetFloor(62));
+        assertEquals(FloorSet.NONE, set.previousSetFloor(4));
+        assertEquals(128, set.previousSetFloor(500));
+    }
+
+    @Test
+    void firstAndLastSpanTheWholeSet() {
+        FloorSet set = new FloorSet(200);
+        assertEquals(FloorSet.NONE, set.first());
+        assertEquals(FloorSet.NONE, set.last());
+
+        set.add(64);
+        assertEquals(64, set.first());
+        assertEquals(64, set.last());
+
+        set.add(0);
+        set.add(199);
+        assertEquals(0, set.first());
+        assertEquals(199, set.last());
+    }
+
+    @Test
+    void floorsOutsideTheSetAreRejected() {
+        FloorSet set = new FloorSet(64);
+        assertTrue(set.add(63));
+        assertThrows(IllegalArgumentException.class, () -> set.add(64));
+        assertThrows(IllegalArgumentException.class, () -> set.remove(-1));
+        assertFalse(set.contains(64));
+        assertThrows(IllegalArgumentException.class, () -> new FloorSet(0));
+    }
+
+    @Test
+    void copiesAreIndependent() {
+        FloorSet set = floors(100, 3, 70);
+        FloorSet copy = set.copy();
+        set.remove(70);
+
+        assertTrue(copy.contains(70));
+        assertEquals(2, copy.size());
+
+        copy.copyFrom(set);
+        assertFalse(copy.contains(70));
+        assertTrue(copy.contains(3));
+        assertThrows(IllegalArgumentException.class, () -> copy.copyFrom(new FloorSet(64)));
+    }
+
+    private static FloorSet floors(int numberOfFloors, int... floors) {
+        FloorSet set = new FloorSet(numberOfFloors);
+        for (int floor : floors) {
+            set.add(floor);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.observer;
+
+import org.example.enums.ElevatorEventType;
+import org.example.logging.EventLog;
+import org.example.models.Elevator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElevatorEventBusTest {
+    private static final int PRODUCERS = 4;
+
+    @Test
+    void fastListenerReceivesEveryEventInPublishOrder() throws InterruptedException {
+        int perProducer = 10_000;
+        RecordingListener listener = new RecordingListener();
+        ElevatorEventBus bus = new ElevatorEventBus(PRODUCERS * perProducer, Collections.singletonList(listener));
+        bus.start();
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            producers.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    bus.publish(ElevatorEventType.MOVED, null, producer, i);
+                }
+            }));
+        }
+        for (Thread producer : producers) {
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        bus.stop();
+
+        assertEquals(0, bus.getDroppedEvents());
+        assertEquals(0, bus.getMissedEvents());
+        assertEquals(PRODUCERS * perProducer, listener.moves.size());
+        int[] next = new int[PRODUCERS];
+        for (int[] move : listener.moves) {
+            assertEquals(next[move[0]]++, move[1], "order of producer " + move[0]);
+        }
+    }
+
+    @Test
+    void slowListenerSkipsToTheOldestHeldEventAndCountsTheGap() throws InterruptedException {
+        int events = 100;
+        CountDownLatch firstReceived = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener listener = new RecordingListener() {
+            @Override
+            public void onElevatorMoved(Elevator elevator, int fromFloor, int toFloor) {
+                super.onElevatorMoved(elevator, fromFloor, toFloor);
+                if (toFloor == 0) {
+                    firstReceived.countDown();
+                    awaitQuietly(release);
+                }
+            }
+        };
+        ElevatorEventBus bus = new ElevatorEventBus(16, Collections.singletonList(listener));
+        bus.start();
+
+        bus.publish(ElevatorEventType.MOVED, null, 0, 0);
+        assertTrue(firstReceived.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < events; i++) {
+            assertTrue(bus.publish(ElevatorEventType.MOVED, null, 0, i)); // Never waits for the stalled listener
+        }
+        release.countDown();
+        bus.stop();
+
+        // Held up at the first event, it then sees only the last ring's worth
+        assertEquals(1 + bus.capacity(), listener.moves.size());
+        assertEquals(events - 1 - bus.capacity(), bus.getMissedEvents());
+        assertEquals(events, listener.moves.size() + bus.getMissedEvents());
+        for (int i = 1; i < listener.moves.size(); i++) {
+            assertEquals(events - bus.capacity() + i - 1, listener.moves.get(i)[1]);
+        }
+    }
+
+    @Test
+    void stopDrainsEventsPublishedBeforeIt() {
+        int events = 1000;
+        RecordingListener listener = new RecordingListener() {
+            @Override
+            public void onElevatorMoved(Elevator elevator, int fromFloor, int toFloor) {
+                LockSupport.parkNanos(100_000); // Still behind when stop() is called
+                super.onElevatorMoved(elevator, fromFloor, toFloor);
+            }
+        };
+        ElevatorEventBus bus = new ElevatorEventBus(events, Collections.singletonList(listener));
+        bus.start();
+
+        for (int i = 0; i < events; i++) {
+            bus.publish(ElevatorEventType.MOVED, null, 0, i);
+        }
+        bus.stop();
+
+        assertEquals(events, listener.moves.size());
+        assertEquals(events - 1, listener.moves.get(events - 1)[1]);
+    }
+
+    @Test
+    void failingListenerKeepsReceivingAndItsStackTraceIsLogged() {
+        ByteArrayOutputStream logged = new ByteArrayOutputStream();
+        EventLog.flush();
+        EventLog.setOutput(new PrintStream(logged, true, StandardCharsets.UTF_8));
+        try {
+            RecordingListener listener = new RecordingListener() {
+                @Override
+                public void onElevatorMoved(Elevator elevator, int fromFloor, int toFloor) {
+                    super.onElevatorMoved(elevator, fromFloor, toFloor);
+                    throw new IllegalStateException("display offline");
+                }
+            };
+            ElevatorEventBus bus = new ElevatorEventBus(16, Collections.singletonList(listener));
+            bus.start();
+            bus.publish(ElevatorEventType.MOVED, null, 0, 1);
+            bus.publish(ElevatorEventType.MOVED, null, 1, 2);
+            bus.stop();
+            EventLog.flush();
+
+            assertEquals(2, listener.moves.size());
+            String output = logged.toString(StandardCharsets.UTF_8);
+            assertTrue(output.contains("Event listener failed"), output);
+            assertTrue(output.contains("java.lang.IllegalStateException: display offline"), output);
+            assertTrue(output.contains("\tat org.example.observer.ElevatorEventBusTest"), output);
+        } finally {
+            EventLog.setOutput(System.out);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Keeps the floors of every move in delivery order
+     */
+    private static class RecordingListener implements ElevatorEventListener {
+        private final List<int[]> moves = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onElevatorMoved(Elevator elevator, int fromFloor, int toFloor) {
+            moves.add(new int[] {fromFloor, toFloor});
+        }
+
+        @Override
+        public void onElevatorDoorOpened(Elevator elevator) {
+        }
+
+        @Override
+        public void onElevatorDoorClosed(Elevator elevator) {
+        }
+
+        @Override
+        public void onElevatorStateChanged(Elevator elevator) {
+        }
+    }
+}
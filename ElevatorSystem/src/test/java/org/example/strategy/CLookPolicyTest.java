@@ -0,0 +1,60 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.FloorSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CLookPolicyTest {
+    private static final int FLOORS = 10;
+    private static final int LOWEST = 2; // Zone 2..7 of a 10-floor building
+    private static final int HIGHEST = 7;
+
+    private final CLookPolicy policy = new CLookPolicy();
+
+    @Test
+    void nothingQueuedMeansNoTarget() {
+        assertEquals(FloorSet.NONE, nextTarget(4, Direction.IDLE, floors(), floors()));
+    }
+
+    @Test
+    void idleCarHeadsForTheNextStopAbove() {
+        assertEquals(6, nextTarget(4, Direction.IDLE, floors(6), floors(3)));
+        assertEquals(3, nextTarget(4, Direction.IDLE, floors(), floors(3)));
+    }
+
+    @Test
+    void upSweepServesBothHallDirectionsInFloorOrder() {
+        assertEquals(5, nextTarget(4, Direction.UP, floors(6), floors(5)));
+        assertEquals(4, nextTarget(4, Direction.UP, floors(6), floors(4)));
+    }
+
+    @Test
+    void returnTripRunsNonStopToTheLowestStop() {
+        assertEquals(LOWEST, nextTarget(6, Direction.DOWN, floors(3), floors(LOWEST, 5)));
+    }
+
+    @Test
+    void turnsAtTheTopOfTheZoneBackToTheLowestStop() {
+        assertEquals(3, nextTarget(HIGHEST, Direction.UP, floors(3), floors(5)));
+    }
+
+    @Test
+    void startsTheNextSweepAtTheBottomOfTheZone() {
+        assertEquals(LOWEST, nextTarget(LOWEST, Direction.DOWN, floors(LOWEST, 5), floors()));
+        assertEquals(5, nextTarget(LOWEST, Direction.DOWN, floors(5), floors()));
+    }
+
+    private int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down) {
+        return policy.nextTarget(currentFloor, direction, up, down, LOWEST, HIGHEST);
+    }
+
+    private static FloorSet floors(int... floors) {
+        FloorSet set = new FloorSet(FLOORS);
+        for (int floor : floors) {
+            set.add(floor);
+        }
+        return set;
+    }
+}
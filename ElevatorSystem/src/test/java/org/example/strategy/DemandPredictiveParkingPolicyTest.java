@@ -0,0 +1,114 @@
+package org.example.strategy;
+
+import org.example.clock.DiscreteEventClock;
+import org.example.enums.Direction;
+import org.example.enums.LogLevel;
+import org.example.logging.EventLog;
+import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.FloorSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DemandPredictiveParkingPolicyTest {
+    private static final int FLOORS = 10;
+    private static final long SLOT_MILLIS = 15L * 60 * 1000;
+    private static final long MORNING = 11 * SLOT_MILLIS + 60_000; // 02:46, slot 11
+    private static final long TWO_SLOTS_BEFORE = MORNING - 2 * SLOT_MILLIS;
+
+    private final DiscreteEventClock clock = new DiscreteEventClock();
+    private final DemandPredictiveParkingPolicy policy = new DemandPredictiveParkingPolicy(FLOORS);
+
+    @Test
+    void idleCarParksWhereCallsAreExpected() {
+        Elevator car = new Elevator(1, 8, FLOORS, clock);
+        policy.recordHallCall(7, Direction.DOWN, MORNING);
+        policy.recordHallCall(7, Direction.DOWN, MORNING);
+
+        assertEquals(7, parkingFloor(car, car));
+    }
+
+    @Test
+    void tooLittleDemandLeavesTheCarWhereItIs() {
+        Elevator car = new Elevator(1, 8, FLOORS, clock);
+        assertEquals(FloorSet.NONE, parkingFloor(car, car));
+    }
+
+    @Test
+    void nextSlotCountsHalf() {
+        Elevator car = new Elevator(1, 8, FLOORS, clock);
+        policy.recordHallCall(7, Direction.DOWN, MORNING + SLOT_MILLIS); // Yesterday, the slot after this one
+        policy.recordHallCall(0, Direction.UP, TWO_SLOTS_BEFORE);
+        assertEquals(FloorSet.NONE, parkingFloor(car, car));
+
+        policy.recordHallCall(7, Direction.DOWN, MORNING);
+        assertEquals(7, parkingFloor(car, car)); // 1 + 0.5 expected calls
+    }
+
+    @Test
+    void secondCarCoversOtherDemandInsteadOfPilingOn() {
+        Elevator first = new Elevator(1, 8, FLOORS, clock);
+        Elevator second = new Elevator(2, 8, FLOORS, clock);
+        for (int i = 0; i < 4; i++) {
+            policy.recordHallCall(8, Direction.DOWN, MORNING);
+        }
+        for (int i = 0; i < 2; i++) {
+            policy.recordHallCall(4, Direction.UP, MORNING);
+        }
+
+        assertEquals(8, parkingFloor(first, first, second));
+        park(first, 8);
+
+        assertEquals(4, parkingFloor(second, first, second));
+    }
+
+    @Test
+    void slotHistoryDecaysOncePerDay() {
+        Elevator car = new Elevator(1, 8, FLOORS, clock);
+        policy.recordHallCall(7, Direction.DOWN, MORNING);
+        policy.recordHallCall(7, Direction.DOWN, MORNING);
+
+        // Next day: 2 * 0.7 calls are still expected
+        policy.recordHallCall(0, Direction.UP, TWO_SLOTS_BEFORE);
+        assertEquals(7, parkingFloor(car, car));
+
+        // The day after: 2 * 0.7 * 0.7 is below one call
+        policy.recordHallCall(0, Direction.UP, TWO_SLOTS_BEFORE);
+        assertEquals(FloorSet.NONE, parkingFloor(car, car));
+    }
+
+    @Test
+    void staleTimeFromTheSlotBeforeCountsAsCurrent() {
+        Elevator car = new Elevator(1, 8, FLOORS, clock);
+        policy.recordHallCall(7, Direction.DOWN, MORNING);
+
+        // Read before another caller moved into this slot: must not age the whole day
+        policy.recordHallCall(7, Direction.DOWN, MORNING - 61_000);
+
+        assertEquals(7, parkingFloor(car, car));
+    }
+
+    private void park(Elevator car, int floor) {
+        LogLevel previousLevel = EventLog.getLevel();
+        EventLog.setLevel(LogLevel.ERROR);
+        clock.attach();
+        try {
+            car.moveToFloor(floor);
+            car.getNextDestination(); // Out of work: idle at the floor
+        } finally {
+            clock.detach();
+            EventLog.setLevel(previousLevel);
+        }
+    }
+
+    private int parkingFloor(Elevator car, Elevator... fleet) {
+        ElevatorSnapshot[] snapshots = new ElevatorSnapshot[fleet.length];
+        for (int i = 0; i < fleet.length; i++) {
+            snapshots[i] = fleet[i].getSnapshot();
+        }
+        return policy.selectParkingFloor(car.getSnapshot(), List.of(snapshots), MORNING);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HungarianAssignmentTest {
+    private final Random random = new Random(42);
+
+    @Test
+    void squareMatricesMatchBruteForce() {
+        for (int i = 0; i < 200; i++) {
+            int size = 1 + random.nextInt(6);
+            assertOptimal(randomMatrix(size, size, 1000));
+        }
+    }
+
+    @Test
+    void rectangularMatricesMatchBruteForce() {
+        for (int i = 0; i < 200; i++) {
+            int rows = 1 + random.nextInt(5);
+            int columns = rows + 1 + random.nextInt(3);
+            assertOptimal(randomMatrix(rows, columns, 1000));
+        }
+    }
+
+    @Test
+    void tiedCostsStillGiveAnOptimalAssignment() {
+        for (int i = 0; i < 200; i++) {
+            int rows = 1 + random.nextInt(5);
+            int columns = rows + random.nextInt(3);
+            assertOptimal(randomMatrix(rows, columns, 3));
+        }
+        assertOptimal(new long[][] {{5, 5, 5}, {5, 5, 5}, {5, 5, 5}});
+    }
+
+    @Test
+    void singleRowTakesTheCheapestColumn() {
+        assertArrayEquals(new int[] {2}, HungarianAssignment.solve(new long[][] {{7, 4, 1, 9}}));
+    }
+
+    @Test
+    void rowsCompetingForOneColumnAreResolvedByTotalCost() {
+        long[][] cost = {
+                {4, 1, 4, 9},
+                {2, 0, 5, 9},
+                {3, 2, 2, 0}
+        };
+        // Rows 0 and 1 both want column 1; giving it to row 0 costs 1 + 2, to row 1 costs 4 + 0
+        assertArrayEquals(new int[] {1, 0, 3}, HungarianAssignment.solve(cost));
+    }
+
+    @Test
+    void emptyMatrixAssignsNothing() {
+        assertEquals(0, HungarianAssignment.solve(new long[0][0]).length);
+    }
+
+    @Test
+    void moreRowsThanColumnsIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> HungarianAssignment.solve(new long[][] {{1}, {2}}));
+    }
+
+    private void assertOptimal(long[][] cost) {
+        int[] assignment = HungarianAssignment.solve(cost);
+        assertEquals(cost.length, assignment.length);
+        boolean[] used = new boolean[cost[0].length];
+        for (int column : assignment) {
+            assertFalse(used[column], "Column assigned twice");
+            used[column] = true;
+        }
+        assertEquals(bruteForce(cost), totalCost(cost, assignment));
+    }
+
+    private long[][] randomMatrix(int rows, int columns, int bound) {
+        long[][] cost = new long[rows][columns];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                cost[r][c] = random.nextInt(bound);
+            }
+        }
+        return cost;
+    }
+
+    private static long totalCost(long[][] cost, int[] assignment) {
+        long total = 0;
+        for (int r = 0; r < assignment.length; r++) {
+            total += cost[r][assignment[r]];
+        }
+        return total;
+    }
+
+    private static long bruteForce(long[][] cost) {
+        return bruteForce(cost, 0, new boolean[cost[0].length]);
+    }
+
+    // Cheapest total over every way of giving rows row.. distinct unused columns
+    private static long bruteForce(long[][] cost, int row, boolean[] used) {
+        if (row == cost.length) {
+            return 0;
+        }
+        long best = Long.MAX_VALUE;
+        for (int column = 0; column < used.length; column++) {
+            if (!used[column]) {
+                used[column] = true;
+                best = Math.min(best, cost[row][column] + bruteForce(cost, row + 1, used));
+                used[column] = false;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.strategy;
+
+import org.example.clock.DiscreteEventClock;
+import org.example.enums.Direction;
+import org.example.enums.LogLevel;
+import org.example.enums.RequestType;
+import org.example.logging.EventLog;
+import org.example.models.Elevator;
+import org.example.models.ElevatorSnapshot;
+import org.example.models.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class HungarianBatchStrategyTest {
+    private static final int FLOORS = 10;
+
+    private final DiscreteEventClock clock = new DiscreteEventClock();
+    private final HungarianBatchStrategy strategy = new HungarianBatchStrategy();
+    private LogLevel previousLevel;
+
+    @BeforeEach
+    void attach() {
+        previousLevel = EventLog.getLevel();
+        EventLog.setLevel(LogLevel.ERROR);
+        clock.attach();
+    }
+
+    @AfterEach
+    void detach() {
+        clock.detach();
+        EventLog.setLevel(previousLevel);
+    }
+
+    @Test
+    void burstNearOneCarIsSpreadAcrossTheBank() {
+        ElevatorSnapshot low = idleCarAt(1, 0);
+        ElevatorSnapshot high = idleCarAt(2, 6);
+
+        // The low car is nearer to both calls, but a second stop on it costs more than sending the high car
+        List<ElevatorSnapshot> selected = strategy.selectElevators(List.of(low, high), List.of(call(1), call(2)));
+
+        assertSame(low, selected.get(0));
+        assertSame(high, selected.get(1));
+    }
+
+    @Test
+    void largerBurstGivesEveryCarItsShare() {
+        ElevatorSnapshot first = idleCarAt(1, 0);
+        ElevatorSnapshot second = idleCarAt(2, 0);
+
+        List<ElevatorSnapshot> selected = strategy.selectElevators(List.of(first, second),
+                List.of(call(3), call(4), call(5), call(6)));
+
+        int onFirst = 0;
+        for (ElevatorSnapshot car : selected) {
+            if (car == first) {
+                onFirst++;
+            }
+        }
+        assertEquals(2, onFirst);
+    }
+
+    @Test
+    void callsStayUnassignedWithoutAnAvailableCar() {
+        List<ElevatorSnapshot> selected = strategy.selectElevators(List.of(), List.of(call(1), call(2)));
+
+        assertEquals(2, selected.size());
+        assertNull(selected.get(0));
+        assertNull(selected.get(1));
+    }
+
+    private ElevatorSnapshot idleCarAt(int id, int floor) {
+        Elevator car = new Elevator(id, 8, FLOORS, clock);
+        if (floor != car.getCurrentFloor()) {
+            car.moveToFloor(floor);
+            car.getNextDestination(); // Out of work: idle at the floor
+        }
+        return car.getSnapshot();
+    }
+
+    private static Request call(int floor) {
+        return new Request.Builder()
+                .sourceFloor(floor)
+                .direction(Direction.UP)
+                .requestType(RequestType.HALL_REQUEST)
+                .build();
+    }
+}
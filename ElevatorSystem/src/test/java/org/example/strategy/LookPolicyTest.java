@@ -0,0 +1,55 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.FloorSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LookPolicyTest {
+    private static final int FLOORS = 10;
+    private static final int LOWEST = 2; // Zone 2..7 of a 10-floor building
+    private static final int HIGHEST = 7;
+
+    private final LookPolicy policy = new LookPolicy();
+
+    @Test
+    void nothingQueuedMeansNoTarget() {
+        assertEquals(FloorSet.NONE, nextTarget(4, Direction.IDLE, floors(), floors()));
+    }
+
+    @Test
+    void idleCarPrefersUpStops() {
+        assertEquals(6, nextTarget(4, Direction.IDLE, floors(6, 7), floors(3)));
+        assertEquals(3, nextTarget(4, Direction.IDLE, floors(), floors(LOWEST, 3)));
+    }
+
+    @Test
+    void upSweepTakesTheNearestUpStop() {
+        assertEquals(5, nextTarget(4, Direction.UP, floors(5, HIGHEST), floors(3)));
+    }
+
+    @Test
+    void downSweepTakesTheNearestDownStop() {
+        assertEquals(4, nextTarget(5, Direction.DOWN, floors(6), floors(LOWEST, 4)));
+    }
+
+    @Test
+    void turnsAtTheLastStopNotTheEndOfTheZone() {
+        assertEquals(5, nextTarget(HIGHEST, Direction.UP, floors(), floors(3, 5)));
+        assertEquals(4, nextTarget(LOWEST, Direction.DOWN, floors(4, 6), floors()));
+        assertEquals(5, nextTarget(6, Direction.UP, floors(), floors(3, 5))); // Short of the zone's top
+    }
+
+    private int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down) {
+        return policy.nextTarget(currentFloor, direction, up, down, LOWEST, HIGHEST);
+    }
+
+    private static FloorSet floors(int... floors) {
+        FloorSet set = new FloorSet(FLOORS);
+        for (int floor : floors) {
+            set.add(floor);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.strategy;
+
+import org.example.clock.DiscreteEventClock;
+import org.example.enums.Direction;
+import org.example.enums.LogLevel;
+import org.example.enums.RequestType;
+import org.example.logging.EventLog;
+import org.example.models.Elevator;
+import org.example.models.FloorSet;
+import org.example.models.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RouteReplayTest {
+    private static final long FLOOR = Elevator.FLOOR_TRAVEL_TIME_MS;
+    private static final long STOP = RouteReplay.STOP_TIME_MS;
+    private static final long OPEN = STOP / 2; // Remaining door cycle of a car still at its last stop
+
+    private final DiscreteEventClock clock = new DiscreteEventClock();
+    private final RouteReplay replay = new RouteReplay();
+    private LogLevel previousLevel;
+
+    @BeforeEach
+    void attach() {
+        previousLevel = EventLog.getLevel();
+        EventLog.setLevel(LogLevel.ERROR);
+        clock.attach();
+    }
+
+    @AfterEach
+    void detach() {
+        clock.detach();
+        EventLog.setLevel(previousLevel);
+    }
+
+    @Test
+    void stopOnTheWayIsServedWhilePassing() {
+        Elevator car = new Elevator(1, 8, 10, clock);
+        car.addDestination(4);
+        car.getNextDestination(); // Heading up
+
+        assertEquals(4 * FLOOR, replay.replay(car.getSnapshot(), FloorSet.NONE));
+        assertEquals(4 * FLOOR + STOP, replay.getFinishMillis());
+        // 2 on the way: arrives there after 2 floors, and delays 4 by one stop
+        assertEquals(2 * FLOOR + (4 * FLOOR + STOP), replay.replay(car.getSnapshot(), 2));
+    }
+
+    @Test
+    void lookTurnsAtTheLastStop() {
+        Elevator car = carAtThreeHeadingUpToFour(new LookPolicy());
+
+        long total = replay.replay(car.getSnapshot(), 1);
+
+        assertEquals(OPEN + FLOOR + (OPEN + FLOOR + STOP + 3 * FLOOR), total);
+    }
+
+    @Test
+    void scanRunsToTheEndOfTheZoneBeforeTurning() {
+        Elevator car = carAtThreeHeadingUpToFour(new ScanPolicy());
+
+        long total = replay.replay(car.getSnapshot(), 1);
+
+        // On to 6, the top of the zone, then down past 3 and 2 to 1
+        assertEquals(OPEN + FLOOR + (OPEN + FLOOR + STOP + 2 * FLOOR + 5 * FLOOR), total);
+    }
+
+    @Test
+    void tripDestinationJoinsOnceItsPickupIsServed() {
+        Elevator car = new Elevator(1, 8, 10, clock);
+        int[] sources = {2};
+        int[] destinations = {5};
+
+        long total = replay.replay(car.getSnapshot(), FloorSet.NONE, sources, destinations, 1);
+
+        assertEquals(2 * FLOOR + (2 * FLOOR + STOP + 3 * FLOOR), total);
+        assertEquals(FloorSet.NONE, sources[0]); // Picked up
+    }
+
+    @Test
+    void replaysCarsOfDifferentSizes() {
+        Elevator small = new Elevator(1, 8, 10, clock);
+        Elevator tall = new Elevator(2, 8, 100, clock);
+        tall.addDestination(80);
+
+        assertEquals(3 * FLOOR, replay.replay(small.getSnapshot(), 3));
+        assertEquals(80 * FLOOR, replay.replay(tall.getSnapshot(), FloorSet.NONE));
+        assertEquals(0, replay.replay(small.getSnapshot(), FloorSet.NONE));
+    }
+
+    @Test
+    void etaPrefersTheCarWhosePolicyReachesTheCallFirst() {
+        Elevator scan = carAtThreeHeadingUpToFour(new ScanPolicy());
+        Elevator look = carAtThreeHeadingUpToFour(new LookPolicy());
+        Request call = new Request.Builder()
+                .sourceFloor(1)
+                .direction(Direction.UP)
+                .requestType(RequestType.HALL_REQUEST)
+                .build();
+
+        EstimatedTimeOfArrivalStrategy eta = new EstimatedTimeOfArrivalStrategy();
+
+        assertSame(look.getSnapshot(), eta.selectElevator(List.of(scan.getSnapshot(), look.getSnapshot()), call));
+    }
+
+    // Zone 0..6 of a 10-floor building: the car is finishing its stop at 3 and has a stop at 4 ahead of it
+    private Elevator carAtThreeHeadingUpToFour(StopSchedulingPolicy policy) {
+        Elevator car = new Elevator(1, 8, 10, clock);
+        car.setStopSchedulingPolicy(policy);
+        car.setShaftRange(0, 6);
+        car.addDestination(3);
+        car.moveToFloor(3);
+        car.addDestination(4);
+        car.getNextDestination();
+        return car;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.FloorSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScanPolicyTest {
+    private static final int FLOORS = 10;
+    private static final int LOWEST = 2; // Zone 2..7 of a 10-floor building
+    private static final int HIGHEST = 7;
+
+    private final ScanPolicy policy = new ScanPolicy();
+
+    @Test
+    void nothingQueuedMeansNoTarget() {
+        assertEquals(FloorSet.NONE, nextTarget(4, Direction.IDLE, floors(), floors()));
+    }
+
+    @Test
+    void idleCarSweepsTowardsItsStops() {
+        assertEquals(HIGHEST, nextTarget(4, Direction.IDLE, floors(6), floors(3)));
+        assertEquals(LOWEST, nextTarget(4, Direction.IDLE, floors(), floors(3)));
+    }
+
+    @Test
+    void upSweepRunsToTheTopOfTheZone() {
+        assertEquals(4, nextTarget(4, Direction.UP, floors(4, 6), floors()));
+        assertEquals(HIGHEST, nextTarget(4, Direction.UP, floors(6), floors(3)));
+        // Without a zone the shaft ends at the top of the building
+        assertEquals(FLOORS - 1, policy.nextTarget(4, Direction.UP, floors(6), floors(3)));
+    }
+
+    @Test
+    void downSweepRunsToTheBottomOfTheZone() {
+        assertEquals(5, nextTarget(5, Direction.DOWN, floors(), floors(3, 5)));
+        assertEquals(LOWEST, nextTarget(5, Direction.DOWN, floors(6), floors(3)));
+        assertEquals(0, policy.nextTarget(5, Direction.DOWN, floors(6), floors(3)));
+    }
+
+    @Test
+    void turnsAtTheTopOfTheZone() {
+        assertEquals(HIGHEST, nextTarget(HIGHEST, Direction.UP, floors(), floors(HIGHEST, 3)));
+        assertEquals(LOWEST, nextTarget(HIGHEST, Direction.UP, floors(), floors(3)));
+    }
+
+    @Test
+    void turnsAtTheBottomOfTheZone() {
+        assertEquals(LOWEST, nextTarget(LOWEST, Direction.DOWN, floors(LOWEST, 5), floors()));
+        assertEquals(HIGHEST, nextTarget(LOWEST, Direction.DOWN, floors(5), floors()));
+    }
+
+    private int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down) {
+        return policy.nextTarget(currentFloor, direction, up, down, LOWEST, HIGHEST);
+    }
+
+    private static FloorSet floors(int... floors) {
+        FloorSet set = new FloorSet(FLOORS);
+        for (int floor : floors) {
+            set.add(floor);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.strategy;
+
+import org.example.enums.Direction;
+import org.example.models.FloorSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShortestSeekFirstPolicyTest {
+    private static final int FLOORS = 10;
+    private static final int LOWEST = 2; // Zone 2..7 of a 10-floor building
+    private static final int HIGHEST = 7;
+
+    private final ShortestSeekFirstPolicy policy = new ShortestSeekFirstPolicy();
+
+    @Test
+    void nothingQueuedMeansNoTarget() {
+        assertEquals(FloorSet.NONE, nextTarget(4, Direction.IDLE, floors(), floors()));
+    }
+
+    @Test
+    void idleCarHeadsForTheNearestStop() {
+        assertEquals(3, nextTarget(4, Direction.IDLE, floors(6), floors(3)));
+        assertEquals(6, nextTarget(4, Direction.IDLE, floors(6), floors(LOWEST)));
+        assertEquals(4, nextTarget(4, Direction.IDLE, floors(4, 5), floors()));
+    }
+
+    @Test
+    void tiesKeepTheCurrentDirection() {
+        assertEquals(6, nextTarget(4, Direction.UP, floors(6), floors(LOWEST)));
+        assertEquals(LOWEST, nextTarget(4, Direction.DOWN, floors(6), floors(LOWEST)));
+        assertEquals(6, nextTarget(4, Direction.IDLE, floors(6), floors(LOWEST)));
+    }
+
+    @Test
+    void upSweepTurnsBackForANearerStop() {
+        assertEquals(5, nextTarget(4, Direction.UP, floors(5, HIGHEST), floors()));
+        assertEquals(3, nextTarget(4, Direction.UP, floors(HIGHEST), floors(3)));
+    }
+
+    @Test
+    void downSweepTakesTheNearestStopInEitherSet() {
+        assertEquals(3, nextTarget(5, Direction.DOWN, floors(), floors(LOWEST, 3)));
+        assertEquals(6, nextTarget(5, Direction.DOWN, floors(6), floors(LOWEST)));
+    }
+
+    @Test
+    void turnsAtTheEndsOfTheZone() {
+        assertEquals(5, nextTarget(HIGHEST, Direction.UP, floors(), floors(3, 5)));
+        assertEquals(3, nextTarget(LOWEST, Direction.DOWN, floors(3, 6), floors()));
+    }
+
+    private int nextTarget(int currentFloor, Direction direction, FloorSet up, FloorSet down) {
+        return policy.nextTarget(currentFloor, direction, up, down, LOWEST, HIGHEST);
+    }
+
+    private static FloorSet floors(int... floors) {
+        FloorSet set = new FloorSet(FLOORS);
+        for (int floor : floors) {
+            set.add(floor);
+        }
+        return set;
+    }
+}